@@ -35,6 +35,7 @@ dependencies {
 
     // Database
     runtimeOnly("com.mysql:mysql-connector-j")
+    developmentOnly("com.h2database:h2") // Embedded databases for the replica-local profile
 
     // Flyway for Database Migrations
     implementation("org.flywaydb:flyway-core")
@@ -51,6 +52,7 @@ dependencies {
 
     // Resilience4j for Circuit Breaker
     implementation("io.github.resilience4j:resilience4j-spring-boot3:2.1.0")
+    implementation("io.github.resilience4j:resilience4j-reactor:2.1.0") // Circuit breaker on Flux-returning clients
 
     // Spring Retry
     implementation("org.springframework.retry:spring-retry")
@@ -66,6 +68,8 @@ dependencies {
     // Test Dependencies
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testRuntimeOnly("com.h2database:h2")
+    testImplementation("org.testcontainers:junit-jupiter")
 }
 
 tasks.withType<Test> {
@@ -1,9 +1,12 @@
 package com.zipduck.api.controller;
 
+import com.zipduck.api.dto.request.BatchEligibilityRequest;
 import com.zipduck.api.dto.response.ApiResponse;
+import com.zipduck.api.dto.response.BatchEligibilityResponse;
 import com.zipduck.api.exception.BusinessException;
 import com.zipduck.domain.eligibility.EligibilityCalculator;
 import com.zipduck.domain.eligibility.EligibilityDetails;
+import com.zipduck.domain.eligibility.ScoredSubscription;
 import com.zipduck.domain.subscription.Subscription;
 import com.zipduck.domain.subscription.SubscriptionQueryService;
 import com.zipduck.domain.user.User;
@@ -11,11 +14,19 @@ import com.zipduck.domain.user.UserQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Controller for eligibility checking and detailed analysis
  * T098: EligibilityController implementation
@@ -58,7 +69,7 @@ public class EligibilityController {
         }
 
         // Get subscription
-        Subscription subscription = subscriptionQueryService.getById(subscriptionId);
+        Subscription subscription = subscriptionQueryService.getByIdIncludingArchived(subscriptionId);
 
         // Calculate detailed eligibility
         EligibilityDetails details = eligibilityCalculator.getEligibilityDetails(
@@ -91,7 +102,7 @@ public class EligibilityController {
                     "사용자 프로필을 찾을 수 없습니다. 먼저 프로필을 생성해주세요.");
         }
 
-        Subscription subscription = subscriptionQueryService.getById(subscriptionId);
+        Subscription subscription = subscriptionQueryService.getByIdIncludingArchived(subscriptionId);
         boolean isEligible = eligibilityCalculator.isEligible(user.getProfile(), subscription);
 
         log.debug("Basic eligibility result - User: {}, Subscription: {}, Eligible: {}",
@@ -121,7 +132,7 @@ public class EligibilityController {
                     "사용자 프로필을 찾을 수 없습니다. 먼저 프로필을 생성해주세요.");
         }
 
-        Subscription subscription = subscriptionQueryService.getById(subscriptionId);
+        Subscription subscription = subscriptionQueryService.getByIdIncludingArchived(subscriptionId);
         int matchScore = eligibilityCalculator.calculateMatchScore(user.getProfile(), subscription);
 
         log.debug("Match score calculated - User: {}, Subscription: {}, Score: {}",
@@ -129,4 +140,52 @@ public class EligibilityController {
 
         return ResponseEntity.ok(ApiResponse.success(matchScore));
     }
+
+    /**
+     * Get eligibility details for many subscriptions at once
+     * FR-007: One profile load, one subscription query and one evaluation pass for the whole list
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get eligibility details for multiple subscriptions",
+            description = "Returns eligibility details keyed by subscription ID for up to "
+                    + BatchEligibilityRequest.MAX_SUBSCRIPTIONS + " subscriptions"
+    )
+    public ResponseEntity<ApiResponse<BatchEligibilityResponse>> getBatchEligibilityDetails(
+            @Valid @RequestBody BatchEligibilityRequest request) {
+
+        log.debug("Batch eligibility request - User: {}, Subscriptions: {}",
+                request.getUserId(), request.getSubscriptionIds().size());
+
+        User user = userQueryService.getByIdWithProfile(request.getUserId());
+        if (user.getProfile() == null) {
+            throw new BusinessException("PROFILE_NOT_FOUND",
+                    "사용자 프로필을 찾을 수 없습니다. 먼저 프로필을 생성해주세요.");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>(request.getSubscriptionIds());
+        List<Subscription> subscriptions = subscriptionQueryService.getAllByIds(requestedIds);
+
+        Map<Long, EligibilityDetails> detailsById = new LinkedHashMap<>();
+        for (ScoredSubscription scored : eligibilityCalculator.scoreAll(user.getProfile(), subscriptions)) {
+            detailsById.put(scored.subscription().getId(), scored.details());
+        }
+
+        // Keep request order and report IDs that did not resolve
+        Map<Long, EligibilityDetails> results = new LinkedHashMap<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            EligibilityDetails details = detailsById.get(id);
+            if (details != null) {
+                results.put(id, details);
+            } else {
+                notFoundIds.add(id);
+            }
+        }
+
+        log.info("Batch eligibility check - User: {}, Checked: {}, Not found: {}",
+                request.getUserId(), results.size(), notFoundIds.size());
+
+        return ResponseEntity.ok(ApiResponse.success(BatchEligibilityResponse.of(results, notFoundIds)));
+    }
 }
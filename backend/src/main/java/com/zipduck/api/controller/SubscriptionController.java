@@ -2,14 +2,28 @@ package com.zipduck.api.controller;
 
 import com.zipduck.api.dto.request.CompareSubscriptionsRequest;
 import com.zipduck.api.dto.response.ApiResponse;
+import com.zipduck.api.dto.response.AutocompleteResponse;
 import com.zipduck.api.dto.response.ComparisonResponse;
+import com.zipduck.api.dto.response.PageResponse;
 import com.zipduck.api.dto.response.SubscriptionDto;
 import com.zipduck.api.dto.response.SubscriptionListResponse;
+import com.zipduck.api.dto.response.SubscriptionSearchResponse;
 import com.zipduck.api.exception.BusinessException;
+import com.zipduck.application.comparison.SubscriptionComparisonService;
 import com.zipduck.domain.eligibility.EligibilityCalculator;
 import com.zipduck.domain.eligibility.EligibilityDetails;
+import com.zipduck.domain.eligibility.ScoredSubscriptionSummary;
+import com.zipduck.domain.region.RegionDictionary;
+import com.zipduck.domain.search.AutocompleteSuggestion;
+import com.zipduck.domain.search.SubscriptionAutocompleteService;
+import com.zipduck.domain.search.SubscriptionSearchHit;
+import com.zipduck.domain.search.SubscriptionSearchIndex;
+import com.zipduck.domain.search.SubscriptionSearchService;
 import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionCursor;
+import com.zipduck.domain.subscription.SubscriptionFilter;
 import com.zipduck.domain.subscription.SubscriptionQueryService;
+import com.zipduck.domain.subscription.SubscriptionSummary;
 import com.zipduck.domain.user.User;
 import com.zipduck.domain.user.UserQueryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,16 +32,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Subscription API Controller
- * T038: GET /api/v1/subscriptions/recommendations with sourceFilter param
+ * T038: GET /api/v1/subscriptions/recommendations with sourceFilter and paging params
  * T100: POST /api/v1/subscriptions/compare for side-by-side comparison
+ * GET /api/v1/subscriptions/search for full-text search
+ * GET /api/v1/subscriptions/autocomplete for type-ahead suggestions
  */
 @Slf4j
 @RestController
@@ -39,21 +59,39 @@ public class SubscriptionController {
     private final SubscriptionQueryService subscriptionQueryService;
     private final UserQueryService userQueryService;
     private final EligibilityCalculator eligibilityCalculator;
+    private final SubscriptionComparisonService subscriptionComparisonService;
+    private final SubscriptionSearchService subscriptionSearchService;
+    private final SubscriptionAutocompleteService subscriptionAutocompleteService;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_AUTOCOMPLETE_SIZE = 10;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
 
     /**
      * Get personalized recommendations for a user
      * FR-004, FR-005, FR-026, FR-027, FR-032
+     * Paginated: only the requested page is ranked into, loaded and serialized
      */
     @GetMapping("/recommendations")
     @Operation(
             summary = "Get personalized subscription recommendations",
-            description = "Get housing subscriptions filtered by user eligibility with optional source filtering"
+            description = "Get a page of housing subscriptions filtered by user eligibility, ranked by match score, " +
+                    "with optional source filtering"
     )
-    public ResponseEntity<ApiResponse<SubscriptionListResponse>> getRecommendations(
+    public ResponseEntity<ApiResponse<PageResponse<SubscriptionDto>>> getRecommendations(
             @Parameter(description = "User ID", required = true)
             @RequestParam Long id,
             @Parameter(description = "Source filter: ALL, PUBLIC_DB, PDF_UPLOAD, MERGED")
-            @RequestParam(required = false) String sourceFilter) {
+            @RequestParam(required = false) String sourceFilter,
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max " + MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Maximum number of ranked results to page through")
+            @RequestParam(required = false) Integer limit) {
+
+        validatePageRequest(page, size, limit);
 
         // Get user with profile
         User user = userQueryService.getByIdWithProfile(id);
@@ -62,32 +100,78 @@ public class SubscriptionController {
         }
 
         // Parse source filter
-        Subscription.DataSource dataSourceFilter = null;
-        if (sourceFilter != null && !sourceFilter.equalsIgnoreCase("ALL")) {
-            try {
-                dataSourceFilter = Subscription.DataSource.valueOf(sourceFilter.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new BusinessException("INVALID_SOURCE_FILTER", "Invalid source filter: " + sourceFilter);
-            }
+        Subscription.DataSource dataSourceFilter = parseSourceFilter(sourceFilter);
+
+        // Get ranked recommendations with eligibility filtering
+        Page<ScoredSubscriptionSummary> recommendations = subscriptionQueryService.getRecommendations(
+                user.getProfile(), dataSourceFilter, page, size, limit);
+
+        // Convert to DTOs, reusing the eligibility details computed during scoring
+        List<SubscriptionDto> dtos = recommendations.getContent().stream()
+                .map(scored -> SubscriptionDto.fromSummaryWithEligibility(scored.summary(), scored.details()))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(recommendations, dtos)));
+    }
+
+    /**
+     * Search active subscriptions by name, address or location
+     * Bigram index match, so any two or more contiguous characters of a 단지명 find it
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search subscriptions",
+            description = "Full-text search over subscription name, address and location, ranked by relevance"
+    )
+    public ResponseEntity<ApiResponse<SubscriptionSearchResponse>> search(
+            @Parameter(description = "Search text (at least 2 letters or digits)", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (max " + MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+
+        validatePageRequest(0, limit, null);
+        if (SubscriptionSearchIndex.normalize(q).length() < SubscriptionSearchIndex.MIN_QUERY_LENGTH) {
+            throw new BusinessException("INVALID_SEARCH_QUERY",
+                    "Search query must contain at least " + SubscriptionSearchIndex.MIN_QUERY_LENGTH
+                            + " letters or digits");
         }
 
-        // Get recommendations with eligibility filtering
-        List<Subscription> recommendations = subscriptionQueryService.getRecommendations(
-                user.getProfile(), dataSourceFilter);
-
-        // Convert to DTOs with eligibility details
-        List<SubscriptionDto> dtos = recommendations.stream()
-                .map(subscription -> {
-                    EligibilityDetails details = eligibilityCalculator.getEligibilityDetails(
-                            user.getProfile(), subscription);
-                    return SubscriptionDto.fromWithEligibility(subscription, details);
-                })
+        List<SubscriptionSearchHit> hits = subscriptionSearchService.search(q, limit);
+        Map<Long, SubscriptionSummary> summaries = subscriptionQueryService.getActiveSummariesByIds(
+                        hits.stream().map(SubscriptionSearchHit::subscriptionId).toList()).stream()
+                .collect(Collectors.toMap(SubscriptionSummary::id, Function.identity()));
+
+        // Keep relevance order; drop rows deactivated since the index was built
+        List<SubscriptionSearchResponse.Hit> results = hits.stream()
+                .filter(hit -> summaries.containsKey(hit.subscriptionId()))
+                .map(hit -> new SubscriptionSearchResponse.Hit(hit.relevance(),
+                        SubscriptionDto.fromSummary(summaries.get(hit.subscriptionId()))))
                 .collect(Collectors.toList());
 
-        SubscriptionListResponse response = SubscriptionListResponse.of(dtos,
-                sourceFilter != null ? sourceFilter : "ALL");
+        return ResponseEntity.ok(ApiResponse.success(SubscriptionSearchResponse.of(q, results)));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+    /**
+     * Type-ahead suggestions for subscription names and regions
+     * Served from in-memory tries; accepts partial syllables and 초성-only input (e.g. "ㄹㅁㅇ")
+     */
+    @GetMapping("/autocomplete")
+    @Operation(
+            summary = "Autocomplete subscriptions and regions",
+            description = "Prefix suggestions over active subscription names and region names, including 초성 input"
+    )
+    public ResponseEntity<ApiResponse<AutocompleteResponse>> autocomplete(
+            @Parameter(description = "Text typed so far", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (max " + MAX_AUTOCOMPLETE_SIZE + ")")
+            @RequestParam(defaultValue = "" + DEFAULT_AUTOCOMPLETE_SIZE) int limit) {
+
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_SIZE) {
+            throw new BusinessException("INVALID_PAGE_REQUEST",
+                    "limit must be between 1 and " + MAX_AUTOCOMPLETE_SIZE);
+        }
+        List<AutocompleteSuggestion> suggestions = subscriptionAutocompleteService.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(AutocompleteResponse.of(q, suggestions)));
     }
 
     /**
@@ -96,7 +180,7 @@ public class SubscriptionController {
     @GetMapping("/{id}")
     @Operation(summary = "Get subscription by ID", description = "Retrieve detailed subscription information")
     public ResponseEntity<ApiResponse<SubscriptionDto>> getById(@PathVariable Long id) {
-        Subscription subscription = subscriptionQueryService.getById(id);
+        Subscription subscription = subscriptionQueryService.getByIdIncludingArchived(id);
         SubscriptionDto dto = SubscriptionDto.from(subscription);
         return ResponseEntity.ok(ApiResponse.success(dto));
     }
@@ -113,7 +197,7 @@ public class SubscriptionController {
             @PathVariable Long id,
             @RequestParam Long userId) {
 
-        Subscription subscription = subscriptionQueryService.getById(id);
+        Subscription subscription = subscriptionQueryService.getByIdIncludingArchived(id);
         User user = userQueryService.getByIdWithProfile(userId);
 
         if (user.getProfile() == null) {
@@ -128,35 +212,56 @@ public class SubscriptionController {
     }
 
     /**
-     * Get all active subscriptions (no filtering)
+     * Get active subscriptions, one keyset page at a time
+     * FR-027: Source, location, housing type and price filters are applied by the database.
+     * Pages are ordered by application end date then ID; pass {@code nextCursor} back as
+     * {@code cursor} to continue.
      */
     @GetMapping
-    @Operation(summary = "Get all active subscriptions", description = "Retrieve all active housing subscriptions")
+    @Operation(
+            summary = "Get active subscriptions",
+            description = "Retrieve active housing subscriptions with optional filters, paged by cursor " +
+                    "in application end date order"
+    )
     public ResponseEntity<ApiResponse<SubscriptionListResponse>> getAllActive(
             @Parameter(description = "Source filter: ALL, PUBLIC_DB, PDF_UPLOAD, MERGED")
-            @RequestParam(required = false) String sourceFilter) {
-
-        List<Subscription> subscriptions;
-
-        if (sourceFilter != null && !sourceFilter.equalsIgnoreCase("ALL")) {
-            try {
-                Subscription.DataSource dataSourceFilter = Subscription.DataSource.valueOf(sourceFilter.toUpperCase());
-                subscriptions = subscriptionQueryService.getAllActive().stream()
-                        .filter(s -> s.getDataSource() == dataSourceFilter)
-                        .collect(Collectors.toList());
-            } catch (IllegalArgumentException e) {
-                throw new BusinessException("INVALID_SOURCE_FILTER", "Invalid source filter: " + sourceFilter);
-            }
-        } else {
-            subscriptions = subscriptionQueryService.getAllActive();
+            @RequestParam(required = false) String sourceFilter,
+            @Parameter(description = "Region name, e.g. 서울, 경기")
+            @RequestParam(required = false) String location,
+            @Parameter(description = "Housing type: APARTMENT, OFFICETEL, VILLA, TOWNHOUSE, ETC")
+            @RequestParam(required = false) String housingType,
+            @Parameter(description = "Minimum price in KRW")
+            @RequestParam(required = false) Long minPrice,
+            @Parameter(description = "Maximum price in KRW")
+            @RequestParam(required = false) Long maxPrice,
+            @Parameter(description = "Cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+
+        validatePageRequest(0, size, null);
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new BusinessException("INVALID_PRICE_RANGE", "minPrice must not exceed maxPrice");
         }
 
-        List<SubscriptionDto> dtos = subscriptions.stream()
-                .map(SubscriptionDto::from)
+        SubscriptionFilter filter = new SubscriptionFilter(
+                parseSourceFilter(sourceFilter),
+                parseLocation(location),
+                parseHousingType(housingType),
+                minPrice,
+                maxPrice);
+        Slice<SubscriptionSummary> subscriptions = subscriptionQueryService.getActiveSummaries(
+                filter, SubscriptionCursor.decode(cursor), size);
+
+        List<SubscriptionDto> dtos = subscriptions.getContent().stream()
+                .map(SubscriptionDto::fromSummary)
                 .collect(Collectors.toList());
+        String nextCursor = subscriptions.hasNext()
+                ? SubscriptionCursor.after(subscriptions.getContent().get(dtos.size() - 1)).encode()
+                : null;
 
         SubscriptionListResponse response = SubscriptionListResponse.of(dtos,
-                sourceFilter != null ? sourceFilter : "ALL");
+                sourceFilter != null ? sourceFilter : "ALL", nextCursor);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -184,33 +289,60 @@ public class SubscriptionController {
                     "사용자 프로필을 찾을 수 없습니다. 먼저 프로필을 생성해주세요.");
         }
 
-        // Get subscriptions with eligibility details
-        List<SubscriptionDto> subscriptionDtos = request.getSubscriptionIds().stream()
-                .map(id -> {
-                    try {
-                        Subscription subscription = subscriptionQueryService.getById(id);
-                        EligibilityDetails details = eligibilityCalculator.getEligibilityDetails(
-                                user.getProfile(), subscription);
-                        return SubscriptionDto.fromWithEligibility(subscription, details);
-                    } catch (Exception e) {
-                        log.warn("Failed to load subscription {} for comparison: {}",
-                                id, e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(dto -> dto != null)
-                .collect(Collectors.toList());
+        ComparisonResponse response = subscriptionComparisonService.compare(
+                user.getProfile(), request.getSubscriptionIds());
+
+        log.info("Comparison completed - User: {}, Compared: {} subscriptions, Best match: {}",
+                request.getUserId(), response.getTotalCount(), response.getSummary().getBestMatch());
 
-        if (subscriptionDtos.size() < 2) {
-            throw new BusinessException("INSUFFICIENT_SUBSCRIPTIONS",
-                    "최소 2개 이상의 청약을 비교할 수 있습니다.");
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    private Subscription.DataSource parseSourceFilter(String sourceFilter) {
+        if (sourceFilter == null || sourceFilter.equalsIgnoreCase("ALL")) {
+            return null;
         }
+        try {
+            return Subscription.DataSource.valueOf(sourceFilter.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("INVALID_SOURCE_FILTER", "Invalid source filter: " + sourceFilter);
+        }
+    }
 
-        ComparisonResponse response = ComparisonResponse.of(subscriptionDtos);
+    private Subscription.HousingType parseHousingType(String housingType) {
+        if (housingType == null || housingType.isBlank()) {
+            return null;
+        }
+        try {
+            return Subscription.HousingType.valueOf(housingType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("INVALID_HOUSING_TYPE", "Invalid housing type: " + housingType);
+        }
+    }
 
-        log.info("Comparison completed - User: {}, Compared: {} subscriptions, Best match: {}",
-                request.getUserId(), subscriptionDtos.size(), response.getSummary().getBestMatch());
+    /**
+     * Resolve a location filter to its region ID so it can use the region index
+     */
+    private Integer parseLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        int regionId = RegionDictionary.regionIdOf(location);
+        String unknownName = RegionDictionary.nameOf(RegionDictionary.UNKNOWN);
+        if (regionId == RegionDictionary.UNKNOWN && !location.contains(unknownName)) {
+            throw new BusinessException("INVALID_LOCATION_FILTER",
+                    "Unknown location: " + location + ". Supported: " + String.join(", ", RegionDictionary.names()));
+        }
+        return regionId;
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+    private void validatePageRequest(int page, int size, Integer limit) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("INVALID_PAGE_REQUEST",
+                    "page must be >= 0 and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (limit != null && limit < 1) {
+            throw new BusinessException("INVALID_PAGE_REQUEST", "limit must be >= 1");
+        }
     }
 }
\ No newline at end of file
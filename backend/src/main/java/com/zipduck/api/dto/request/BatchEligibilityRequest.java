@@ -0,0 +1,29 @@
+package com.zipduck.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for checking eligibility against many subscriptions at once
+ * FR-007: Detailed eligibility breakdown for a list of subscriptions
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchEligibilityRequest {
+
+    public static final int MAX_SUBSCRIPTIONS = 100;
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotEmpty(message = "Subscription IDs are required")
+    @Size(max = MAX_SUBSCRIPTIONS, message = "You can check up to " + MAX_SUBSCRIPTIONS + " subscriptions at once")
+    private List<@NotNull Long> subscriptionIds;
+}
@@ -0,0 +1,53 @@
+package com.zipduck.api.dto.response;
+
+import com.zipduck.domain.search.AutocompleteSuggestion;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Response DTO for type-ahead suggestions
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Autocomplete response")
+public class AutocompleteResponse {
+
+    @Schema(description = "Text typed so far", example = "ㄹㅁㅇ")
+    private String query;
+
+    @Schema(description = "Suggestions, regions first")
+    private List<Suggestion> suggestions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Autocomplete suggestion")
+    public static class Suggestion {
+
+        @Schema(description = "Suggestion type", example = "SUBSCRIPTION")
+        private String type;
+
+        @Schema(description = "Suggested text", example = "래미안 원베일리")
+        private String text;
+
+        @Schema(description = "Subscription ID, absent for regions", example = "1")
+        private Long subscriptionId;
+    }
+
+    public static AutocompleteResponse of(String query, List<AutocompleteSuggestion> suggestions) {
+        return AutocompleteResponse.builder()
+                .query(query)
+                .suggestions(suggestions.stream()
+                        .map(s -> new Suggestion(s.type().name(), s.text(), s.subscriptionId()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.zipduck.api.dto.response;
+
+import com.zipduck.domain.eligibility.EligibilityDetails;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for batch eligibility checks
+ * FR-007: Eligibility details keyed by subscription ID, in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchEligibilityResponse {
+
+    private Map<Long, EligibilityDetails> results;
+    private List<Long> notFoundIds; // Requested IDs with no matching subscription
+
+    public static BatchEligibilityResponse of(Map<Long, EligibilityDetails> results, List<Long> notFoundIds) {
+        return BatchEligibilityResponse.builder()
+                .results(results)
+                .notFoundIds(notFoundIds)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.zipduck.api.dto.response;
 
+import com.zipduck.domain.eligibility.EligibilityDetails;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -44,45 +45,47 @@ public class ComparisonResponse {
                 .build();
     }
 
+    /**
+     * Build the summary in a single traversal
+     */
     private static ComparisonSummary buildSummary(List<SubscriptionDto> subscriptions) {
         if (subscriptions.isEmpty()) {
             return ComparisonSummary.builder().build();
         }
 
-        Long lowestMinPrice = subscriptions.stream()
-                .map(SubscriptionDto::getMinPrice)
-                .min(Long::compareTo)
-                .orElse(null);
+        Long lowestMinPrice = null;
+        Long highestMaxPrice = null;
+        int highestMatchScore = Integer.MIN_VALUE;
+        int lowestMatchScore = Integer.MAX_VALUE;
+        SubscriptionDto bestMatch = null;
 
-        Long highestMaxPrice = subscriptions.stream()
-                .map(SubscriptionDto::getMaxPrice)
-                .max(Long::compareTo)
-                .orElse(null);
+        for (SubscriptionDto subscription : subscriptions) {
+            if (subscription.getMinPrice() != null
+                    && (lowestMinPrice == null || subscription.getMinPrice() < lowestMinPrice)) {
+                lowestMinPrice = subscription.getMinPrice();
+            }
+            if (subscription.getMaxPrice() != null
+                    && (highestMaxPrice == null || subscription.getMaxPrice() > highestMaxPrice)) {
+                highestMaxPrice = subscription.getMaxPrice();
+            }
 
-        Integer highestMatchScore = subscriptions.stream()
-                .map(s -> s.getEligibilityDetails() != null ? s.getEligibilityDetails().getMatchScore() : 0)
-                .max(Integer::compareTo)
-                .orElse(null);
-
-        Integer lowestMatchScore = subscriptions.stream()
-                .map(s -> s.getEligibilityDetails() != null ? s.getEligibilityDetails().getMatchScore() : 0)
-                .min(Integer::compareTo)
-                .orElse(null);
-
-        String bestMatch = subscriptions.stream()
-                .filter(s -> s.getEligibilityDetails() != null)
-                .max((s1, s2) -> Integer.compare(
-                        s1.getEligibilityDetails().getMatchScore(),
-                        s2.getEligibilityDetails().getMatchScore()))
-                .map(SubscriptionDto::getName)
-                .orElse(null);
+            EligibilityDetails details = subscription.getEligibilityDetails();
+            int matchScore = details != null ? details.getMatchScore() : 0;
+            highestMatchScore = Math.max(highestMatchScore, matchScore);
+            lowestMatchScore = Math.min(lowestMatchScore, matchScore);
+            // First subscription wins ties
+            if (details != null && (bestMatch == null
+                    || matchScore > bestMatch.getEligibilityDetails().getMatchScore())) {
+                bestMatch = subscription;
+            }
+        }
 
         return ComparisonSummary.builder()
                 .lowestMinPrice(lowestMinPrice)
                 .highestMaxPrice(highestMaxPrice)
                 .highestMatchScore(highestMatchScore)
                 .lowestMatchScore(lowestMatchScore)
-                .bestMatch(bestMatch)
+                .bestMatch(bestMatch != null ? bestMatch.getName() : null)
                 .build();
     }
 }
@@ -2,6 +2,7 @@ package com.zipduck.api.dto.response;
 
 import com.zipduck.domain.eligibility.EligibilityDetails;
 import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -130,4 +131,40 @@ public class SubscriptionDto {
         dto.setEligibilityDetails(details);
         return dto;
     }
+
+    /**
+     * List-view DTO from a projection; special qualifications and preference categories
+     * are left null and served by the detail endpoint
+     */
+    public static SubscriptionDto fromSummary(SubscriptionSummary summary) {
+        return SubscriptionDto.builder()
+                .id(summary.id())
+                .name(summary.name())
+                .location(summary.location())
+                .address(summary.address())
+                .housingType(summary.housingType().name())
+                .housingTypeKorean(summary.housingType().getKoreanName())
+                .minPrice(summary.minPrice())
+                .maxPrice(summary.maxPrice())
+                .minAge(summary.minAge())
+                .maxAge(summary.maxAge())
+                .minIncome(summary.minIncome())
+                .maxIncome(summary.maxIncome())
+                .minHouseholdMembers(summary.minHouseholdMembers())
+                .maxHouseholdMembers(summary.maxHouseholdMembers())
+                .maxHousingOwned(summary.maxHousingOwned())
+                .applicationStartDate(summary.applicationStartDate())
+                .applicationEndDate(summary.applicationEndDate())
+                .dataSource(summary.dataSource().name())
+                .dataSourceKorean(summary.dataSource().getKoreanName())
+                .isMerged(summary.isMerged())
+                .detailUrl(summary.detailUrl())
+                .build();
+    }
+
+    public static SubscriptionDto fromSummaryWithEligibility(SubscriptionSummary summary, EligibilityDetails details) {
+        SubscriptionDto dto = fromSummary(summary);
+        dto.setEligibilityDetails(details);
+        return dto;
+    }
 }
\ No newline at end of file
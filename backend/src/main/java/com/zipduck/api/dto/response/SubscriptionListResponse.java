@@ -28,11 +28,24 @@ public class SubscriptionListResponse {
     @Schema(description = "Applied source filter", example = "PUBLIC_DB")
     private String sourceFilter;
 
+    @Schema(description = "Cursor for the next page, absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page exists", example = "true")
+    private Boolean hasNext;
+
     public static SubscriptionListResponse of(List<SubscriptionDto> subscriptions, String sourceFilter) {
+        return of(subscriptions, sourceFilter, null);
+    }
+
+    public static SubscriptionListResponse of(List<SubscriptionDto> subscriptions, String sourceFilter,
+                                              String nextCursor) {
         return SubscriptionListResponse.builder()
                 .subscriptions(subscriptions)
                 .totalCount(subscriptions.size())
                 .sourceFilter(sourceFilter)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.zipduck.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for subscription search, most relevant first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Subscription search response")
+public class SubscriptionSearchResponse {
+
+    @Schema(description = "Search query", example = "래미안")
+    private String query;
+
+    @Schema(description = "Matches ordered by relevance")
+    private List<Hit> hits;
+
+    @Schema(description = "Number of returned matches", example = "3")
+    private Integer totalCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Search match")
+    public static class Hit {
+
+        @Schema(description = "Relevance score, higher is better", example = "3.0")
+        private Double relevance;
+
+        @Schema(description = "Matched subscription")
+        private SubscriptionDto subscription;
+    }
+
+    public static SubscriptionSearchResponse of(String query, List<Hit> hits) {
+        return SubscriptionSearchResponse.builder()
+                .query(query)
+                .hits(hits)
+                .totalCount(hits.size())
+                .build();
+    }
+}
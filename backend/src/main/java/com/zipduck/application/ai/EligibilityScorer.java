@@ -1,6 +1,7 @@
 package com.zipduck.application.ai;
 
 import com.zipduck.domain.eligibility.EligibilityCalculator;
+import com.zipduck.domain.region.RegionDictionary;
 import com.zipduck.domain.subscription.Subscription;
 import com.zipduck.domain.user.UserProfile;
 import lombok.RequiredArgsConstructor;
@@ -64,8 +65,7 @@ public class EligibilityScorer {
         penalties += (20 - result.housingOwnedScore);
 
         // Location preference match (30 points)
-        result.locationScore = calculateLocationScore(profile.getLocationPreferences(),
-                subscription.getLocation());
+        result.locationScore = calculateLocationScore(profile.getLocationPreferenceMask(), subscription);
         penalties += (30 - result.locationScore);
 
         result.overallScore = Math.max(0, baseScore - penalties);
@@ -154,21 +154,17 @@ public class EligibilityScorer {
         return 10;
     }
 
-    private int calculateLocationScore(String userPreferences, String subscriptionLocation) {
-        if (userPreferences == null || userPreferences.isEmpty()) {
+    private int calculateLocationScore(long preferenceMask, Subscription subscription) {
+        if (preferenceMask == RegionDictionary.NO_PREFERENCE) {
             return 15; // No preference specified
         }
 
-        if (subscriptionLocation == null || subscriptionLocation.isEmpty()) {
+        if (subscription.getLocation() == null || subscription.getLocation().isEmpty()) {
             return 15; // No location info
         }
 
-        String[] preferredLocations = userPreferences.split(",");
-        for (String loc : preferredLocations) {
-            String trimmedLoc = loc.trim();
-            if (subscriptionLocation.contains(trimmedLoc)) {
-                return 30; // Perfect match
-            }
+        if (RegionDictionary.matches(preferenceMask, subscription.getRegionId())) {
+            return 30; // Perfect match
         }
 
         return 5; // No match
@@ -4,13 +4,17 @@ import com.zipduck.application.ai.EligibilityScorer;
 import com.zipduck.application.ai.GeminiService;
 import com.zipduck.application.ai.VisionService;
 import com.zipduck.domain.eligibility.EligibilityCalculator;
+import com.zipduck.domain.eligibility.EligibilityDetails;
 import com.zipduck.domain.pdf.PdfAnalysisResult;
 import com.zipduck.domain.pdf.PdfCommandService;
 import com.zipduck.domain.pdf.PdfDocument;
 import com.zipduck.domain.pdf.PdfQueryService;
+import com.zipduck.domain.search.SubscriptionSearchHit;
+import com.zipduck.domain.search.SubscriptionSearchService;
 import com.zipduck.domain.subscription.Subscription;
 import com.zipduck.domain.subscription.SubscriptionCommandService;
 import com.zipduck.domain.subscription.SubscriptionQueryService;
+import com.zipduck.domain.subscription.SubscriptionSummary;
 import com.zipduck.domain.user.UserProfile;
 import com.zipduck.infrastructure.cache.PdfCacheService;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,10 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Async processor for PDF analysis
@@ -39,6 +47,7 @@ public class PdfAnalysisTask {
     private final EligibilityScorer eligibilityScorer;
     private final SubscriptionQueryService subscriptionQueryService;
     private final SubscriptionCommandService subscriptionCommandService;
+    private final SubscriptionSearchService subscriptionSearchService;
     private final PdfCacheService pdfCacheService;
 
     /**
@@ -102,8 +111,9 @@ public class PdfAnalysisTask {
             if (userProfile != null) {
                 // Create temporary subscription for eligibility check
                 Subscription tempSubscription = buildSubscriptionFromCriteria(criteria);
-                isEligible = eligibilityCalculator.isEligible(userProfile, tempSubscription);
-                matchScore = eligibilityCalculator.calculateMatchScore(userProfile, tempSubscription);
+                EligibilityDetails details = eligibilityCalculator.getEligibilityDetails(userProfile, tempSubscription);
+                isEligible = details.getOverallEligible();
+                matchScore = details.getMatchScore();
             }
 
             // Step 8: Check for duplicate subscriptions (FR-028, T067)
@@ -188,11 +198,23 @@ public class PdfAnalysisTask {
             return null;
         }
 
-        // Search for subscriptions with similar name and location
-        return subscriptionQueryService.getAllActive().stream()
-                .filter(s -> s.getName() != null && s.getName().contains(criteria.subscriptionName))
-                .filter(s -> s.getLocation() != null && s.getLocation().equals(criteria.location))
+        // Index matches by name within the location, best first, then load only the chosen entity for merging
+        List<Long> candidateIds = subscriptionSearchService.searchNameInLocation(criteria.subscriptionName, criteria.location)
+                .stream()
+                .map(SubscriptionSearchHit::subscriptionId)
+                .toList();
+        if (candidateIds.isEmpty()) {
+            return null;
+        }
+        Map<Long, SubscriptionSummary> candidates = subscriptionQueryService.getActiveSummariesByIds(candidateIds)
+                .stream()
+                .collect(Collectors.toMap(SubscriptionSummary::id, Function.identity()));
+        return candidateIds.stream()
+                .map(candidates::get)
+                .filter(s -> s != null && criteria.location.equals(s.location()))
+                .filter(s -> s.name() != null && s.name().contains(criteria.subscriptionName))
                 .findFirst()
+                .map(s -> subscriptionQueryService.getById(s.id()))
                 .orElse(null);
     }
 
@@ -1,20 +1,33 @@
 package com.zipduck.application.collector;
 
+import com.zipduck.domain.collector.CollectorCheckpoint;
+import com.zipduck.domain.collector.CollectorCheckpointRepository;
+import com.zipduck.domain.region.RegionDictionary;
+import com.zipduck.domain.subscription.PublicDataUpsertResult;
 import com.zipduck.domain.subscription.Subscription;
 import com.zipduck.domain.subscription.SubscriptionCommandService;
-import com.zipduck.domain.subscription.SubscriptionQueryService;
+import com.zipduck.domain.subscription.SubscriptionExpiryScheduler;
 import com.zipduck.infrastructure.external.PublicDataClient;
+import com.zipduck.infrastructure.lease.ClusterJobRunner;
+import com.zipduck.infrastructure.lease.Lease;
+import com.zipduck.infrastructure.lease.LeaseLostException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Scheduled task for collecting subscription data from public data portal
- * T039: Scheduled collection with @Scheduled(cron = "0 0 2 * * *")
+ * T039: Scheduled collection, incremental from a persisted checkpoint
  * FR-003, FR-011
  */
 @Slf4j
@@ -22,76 +35,209 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PublicDataCollector {
 
+    static final String SOURCE = "PUBLIC_DATA_APT";
+    private static final String COLLECT_JOB = "collect-public-data";
+    private static final String ARCHIVE_JOB = "archive-subscriptions";
+    private static final int FULL_SYNC_MONTHS = 3;
+
     private final PublicDataClient publicDataClient;
     private final SubscriptionCommandService subscriptionCommandService;
-    private final SubscriptionQueryService subscriptionQueryService;
+    private final CollectorCheckpointRepository checkpointRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.collector.full-sync-interval-hours:24}")
+    private long fullSyncIntervalHours;
+
+    @Value("${app.collector.chunk-size:500}")
+    private int chunkSize;
 
     /**
-     * Collect public subscription data daily at 2 AM
+     * Collect public subscription data (hourly by default)
      * FR-003: Retrieve current subscription listings from public data sources
      * FR-011: Update subscription listings when new data becomes available
+     *
+     * Runs are incremental from the persisted checkpoint; every
+     * {@code app.collector.full-sync-interval-hours} a full three-month reconciliation runs instead.
+     * Listings are converted and upserted {@code app.collector.chunk-size} at a time as they stream in,
+     * so a run never holds the whole collection window in memory.
+     * The run claims the checkpoint with its lease token first; every chunk is written in a transaction
+     * that re-checks that token under a row lock, so a holder that lost its lease stops writing.
      */
-    @Scheduled(cron = "0 0 2 * * *")
+    @Scheduled(cron = "${app.collector.cron:0 0 * * * *}")
     public void collectPublicData() {
-        log.info("공공데이터 수집 시작");
+        clusterJobRunner.runExclusively(COLLECT_JOB, this::collect);
+    }
 
-        try {
-            // Collect data from last 3 months
-            LocalDate fromDate = LocalDate.now().minusMonths(3);
-            List<PublicDataClient.PublicSubscriptionDto> publicSubscriptions =
-                    publicDataClient.fetchSubscriptions(fromDate);
+    private void collect(Lease lease) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Optional<CollectorCheckpoint> stored = checkpointRepository.findById(SOURCE);
+        CollectorCheckpoint checkpoint = stored.orElseGet(() -> CollectorCheckpoint.initial(SOURCE));
+        if (!claimCheckpoint(checkpoint, stored.isPresent(), lease)) {
+            log.warn("공공데이터 수집 스킵 - 더 최신 lease가 체크포인트를 기록함 (token={})", lease.fencingToken());
+            return;
+        }
+        boolean fullSync = checkpoint.needsFullSync(Duration.ofHours(fullSyncIntervalHours), startedAt);
+        log.info("공공데이터 수집 시작 - 모드: {}, 기준: {} {}", fullSync ? "전체" : "증분",
+                checkpoint.getLastAnnouncementDate(), checkpoint.getLastExternalId());
 
-            log.info("공공데이터 {} 건 조회 완료", publicSubscriptions.size());
+        try {
+            // The API filters by month only; the exact watermark is applied below
+            LocalDate fromDate = fullSync
+                    ? LocalDate.now().minusMonths(FULL_SYNC_MONTHS)
+                    : checkpoint.getLastAnnouncementDate();
+            Iterable<List<PublicDataClient.PublicSubscriptionDto>> chunks = publicDataClient
+                    .streamSubscriptions(fromDate)
+                    .buffer(chunkSize)
+                    .toIterable(1);
 
+            int receivedCount = 0;
             int createdCount = 0;
             int updatedCount = 0;
+            int unchangedCount = 0;
             int skippedCount = 0;
+            int seenCount = 0;
+            // Newest announcement seen so far; the stored watermark keeps filtering later chunks
+            CollectorCheckpoint progress = CollectorCheckpoint.initial(SOURCE);
+            for (List<PublicDataClient.PublicSubscriptionDto> chunk : chunks) {
+                receivedCount += chunk.size();
 
-            for (PublicDataClient.PublicSubscriptionDto dto : publicSubscriptions) {
-                try {
-                    // Check if already exists (FR-028: Duplicate detection)
-                    Subscription existingSubscription = subscriptionQueryService.findByPublicDataId(dto.getExternalId());
-
-                    if (existingSubscription == null) {
-                        // Create new subscription
-                        Subscription newSubscription = convertToSubscription(dto);
-                        subscriptionCommandService.create(newSubscription);
-                        createdCount++;
-                    } else {
-                        // Update existing subscription if needed
-                        updateSubscription(existingSubscription, dto);
-                        subscriptionCommandService.update(existingSubscription);
-                        updatedCount++;
+                // Convert first; a malformed listing is skipped without failing the run
+                List<Subscription> listings = new ArrayList<>(chunk.size());
+                for (PublicDataClient.PublicSubscriptionDto dto : chunk) {
+                    if (!fullSync && !checkpoint.isAfterWatermark(dto.getAnnouncementDate(), dto.getExternalId())) {
+                        seenCount++;
+                        continue;
+                    }
+                    if (dto.getExternalId() == null || dto.getExternalId().isBlank()) {
+                        log.warn("공고번호 없는 청약 정보 스킵: name={}", dto.getName());
+                        skippedCount++;
+                        continue;
+                    }
+                    try {
+                        listings.add(convertToSubscription(dto));
+                    } catch (Exception e) {
+                        log.error("청약 정보 변환 실패: externalId={}, error={}", dto.getExternalId(), e.getMessage());
+                        skippedCount++;
                     }
-                } catch (Exception e) {
-                    log.error("청약 정보 처리 실패: externalId={}, error={}", dto.getExternalId(), e.getMessage());
-                    skippedCount++;
+                }
+
+                // FR-028: Duplicate detection by public data ID, diffed and written in bulk
+                PublicDataUpsertResult result = upsertFenced(listings, lease);
+                createdCount += result.created();
+                updatedCount += result.updated();
+                unchangedCount += result.unchanged();
+
+                for (PublicDataClient.PublicSubscriptionDto dto : chunk) {
+                    progress.advanceTo(dto.getAnnouncementDate(), dto.getExternalId());
                 }
             }
+            log.info("공공데이터 {} 건 조회 완료", receivedCount);
 
-            log.info("공공데이터 수집 완료 - 생성: {}, 업데이트: {}, 스킵: {}", createdCount, updatedCount, skippedCount);
+            // Advance only after every chunk is stored, so a failed run is repeated from the same point
+            checkpoint.advanceTo(progress.getLastAnnouncementDate(), progress.getLastExternalId());
 
+            // An empty result may be the circuit breaker fallback, which must not count as a reconciliation
+            if (fullSync && receivedCount > 0) {
+                checkpoint.markFullSync(startedAt);
+            }
+            saveCheckpoint(checkpoint, lease);
+
+            log.info("공공데이터 수집 완료 - 생성: {}, 업데이트: {}, 변경없음: {}, 기처리: {}, 스킵: {}",
+                    createdCount, updatedCount, unchangedCount, seenCount, skippedCount);
+
+        } catch (LeaseLostException e) {
+            throw e;
         } catch (Exception e) {
             log.error("공공데이터 수집 실패: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Deactivate expired subscriptions daily
-     * FR-030, T041
+     * Record this run's lease token on the checkpoint before writing anything
+     *
+     * @return false if a holder with a newer token has already claimed it
      */
-    @Scheduled(cron = "0 30 2 * * *")
-    public void deactivateExpiredSubscriptions() {
-        log.info("만료된 청약 비활성화 시작");
+    private boolean claimCheckpoint(CollectorCheckpoint checkpoint, boolean exists, Lease lease) {
+        if (!exists) {
+            checkpoint.fence(lease.fencingToken());
+            checkpointRepository.save(checkpoint);
+            return true;
+        }
+        return checkpointRepository.claim(SOURCE, lease.fencingToken()) > 0;
+    }
 
-        try {
-            int deactivatedCount = subscriptionCommandService.deactivateExpiredSubscriptions();
-            log.info("만료된 청약 {} 건 비활성화 완료", deactivatedCount);
-        } catch (Exception e) {
-            log.error("만료된 청약 비활성화 실패: {}", e.getMessage(), e);
+    /**
+     * Upsert one chunk in the same transaction as a locked check of the checkpoint's token
+     *
+     * @throws LeaseLostException if the lease was lost or a newer holder has claimed the checkpoint
+     */
+    private PublicDataUpsertResult upsertFenced(List<Subscription> listings, Lease lease) {
+        lease.ensureHeld();
+        return transactionTemplate.execute(status -> {
+            boolean fenced = checkpointRepository.findForUpdate(SOURCE)
+                    .map(stored -> stored.isFencedAgainst(lease.fencingToken()))
+                    .orElse(false);
+            if (fenced) {
+                throw new LeaseLostException(lease);
+            }
+            return subscriptionCommandService.upsertPublicData(listings);
+        });
+    }
+
+    /**
+     * Store the checkpoint, fenced by the lease token
+     * A collector whose lease expired mid-run cannot overwrite a newer holder's watermark
+     */
+    private void saveCheckpoint(CollectorCheckpoint checkpoint, Lease lease) {
+        int updated = checkpointRepository.updateFenced(SOURCE, checkpoint.getLastAnnouncementDate(),
+                checkpoint.getLastExternalId(), checkpoint.getLastFullSyncAt(), lease.fencingToken());
+        if (updated == 0) {
+            log.warn("체크포인트 저장 거부 - 더 최신 lease가 기록함 (token={})", lease.fencingToken());
         }
     }
 
+    /**
+     * Deactivate expired subscriptions hourly
+     * FR-030, T041: Backstop for SubscriptionExpiryScheduler, which deactivates rows as their period closes;
+     * a no-op when nothing has expired, so it also covers a node that died mid-run
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void deactivateExpiredSubscriptions() {
+        clusterJobRunner.runExclusively(SubscriptionExpiryScheduler.JOB_NAME, lease -> {
+            log.info("만료된 청약 비활성화 시작");
+
+            try {
+                int deactivatedCount = subscriptionCommandService.deactivateExpiredSubscriptions(lease);
+                log.info("만료된 청약 {} 건 비활성화 완료", deactivatedCount);
+            } catch (LeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("만료된 청약 비활성화 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Archive long-expired subscriptions daily, after the expiry backstop
+     * FR-030: Keeps the hot table bounded by open and recently closed announcements
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void archiveExpiredSubscriptions() {
+        clusterJobRunner.runExclusively(ARCHIVE_JOB, lease -> {
+            log.info("만료 청약 아카이빙 시작");
+
+            try {
+                int archivedCount = subscriptionCommandService.archiveExpiredSubscriptions(lease);
+                log.info("만료 청약 {} 건 아카이빙 완료", archivedCount);
+            } catch (LeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("만료 청약 아카이빙 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
     /**
      * Convert PublicSubscriptionDto to Subscription entity
      * T040: Transform and save subscriptions
@@ -112,6 +258,7 @@ public class PublicDataCollector {
                 .housingType(housingType)
                 .minPrice(dto.getMinPrice())
                 .maxPrice(dto.getMaxPrice())
+                .supplyCount(dto.getSupplyCount())
                 .applicationStartDate(dto.getApplicationStartDate())
                 .applicationEndDate(dto.getApplicationEndDate())
                 .dataSource(Subscription.DataSource.PUBLIC_DB)
@@ -128,16 +275,6 @@ public class PublicDataCollector {
                 .build();
     }
 
-    /**
-     * Update existing subscription with new data
-     */
-    private void updateSubscription(Subscription existing, PublicDataClient.PublicSubscriptionDto dto) {
-        // Update only if application dates have changed or other critical fields
-        // This is simplified - in production, you might want to track more changes
-        log.debug("청약 정보 업데이트: externalId={}", dto.getExternalId());
-        // For now, we just log - full update logic can be added if needed
-    }
-
     /**
      * Extract location from full address
      */
@@ -146,16 +283,11 @@ public class PublicDataCollector {
             return "기타";
         }
 
-        // Extract first part of address (e.g., "서울" from "서울시 강남구...")
-        if (fullAddress.contains("서울")) return "서울";
-        if (fullAddress.contains("경기")) return "경기";
-        if (fullAddress.contains("인천")) return "인천";
-        if (fullAddress.contains("부산")) return "부산";
-        if (fullAddress.contains("대구")) return "대구";
-        if (fullAddress.contains("대전")) return "대전";
-        if (fullAddress.contains("광주")) return "광주";
-        if (fullAddress.contains("울산")) return "울산";
-        if (fullAddress.contains("세종")) return "세종";
+        // Extract region name from address (e.g., "서울" from "서울시 강남구...")
+        String region = RegionDictionary.regionNameOf(fullAddress);
+        if (region != null) {
+            return region;
+        }
 
         // Default to first word
         String[] parts = fullAddress.split(" ");
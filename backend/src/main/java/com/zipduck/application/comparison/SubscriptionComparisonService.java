@@ -0,0 +1,122 @@
+package com.zipduck.application.comparison;
+
+import com.zipduck.api.dto.response.ComparisonResponse;
+import com.zipduck.api.dto.response.SubscriptionDto;
+import com.zipduck.api.exception.BusinessException;
+import com.zipduck.domain.eligibility.EligibilityCalculator;
+import com.zipduck.domain.subscription.SubscriptionCatalog;
+import com.zipduck.domain.subscription.SubscriptionQueryService;
+import com.zipduck.domain.user.UserProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Side-by-side subscription comparison
+ * FR-010, T100: All subscriptions are loaded in one query and evaluated in one pass.
+ *
+ * Results are cached per (user, profile revision, subscription table version, sorted ID set),
+ * so repeated comparisons while shortlisting are served without touching the database.
+ * The cached comparison is kept in ID order and re-ordered to match each request; the summary is
+ * rebuilt over the request order so ties go to the first requested subscription, as before caching.
+ * While the catalog is still cold the cache is bypassed rather than building the catalog on the request thread.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionComparisonService {
+
+    private static final String CACHE_NAME = "comparisons";
+
+    private final SubscriptionQueryService subscriptionQueryService;
+    private final SubscriptionCatalog subscriptionCatalog;
+    private final EligibilityCalculator eligibilityCalculator;
+    private final CacheManager cacheManager;
+
+    /**
+     * Compare subscriptions for a user profile, in the requested order
+     */
+    public ComparisonResponse compare(UserProfile profile, List<Long> subscriptionIds) {
+        TreeSet<Long> sortedIds = new TreeSet<>(subscriptionIds);
+        String catalogVersion = subscriptionCatalog.versionIfWarm();
+        if (catalogVersion == null) {
+            return inRequestOrder(buildComparison(profile, sortedIds), subscriptionIds);
+        }
+
+        String cacheKey = profile.getUser().getId() + ":" + profile.getRevision() + ":"
+                + catalogVersion + ":" + sortedIds;
+        ComparisonResponse comparison = getCached(cacheKey);
+        if (comparison == null) {
+            comparison = buildComparison(profile, sortedIds);
+            putCached(cacheKey, comparison);
+        }
+        return inRequestOrder(comparison, subscriptionIds);
+    }
+
+    private ComparisonResponse buildComparison(UserProfile profile, Collection<Long> sortedIds) {
+        List<SubscriptionDto> subscriptions = eligibilityCalculator
+                .scoreAll(profile, subscriptionQueryService.getAllByIds(sortedIds)).stream()
+                .map(scored -> SubscriptionDto.fromWithEligibility(scored.subscription(), scored.details()))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .collect(Collectors.toList());
+
+        if (subscriptions.size() < sortedIds.size()) {
+            log.warn("Some subscriptions were not found for comparison: requested {}, found {}",
+                    sortedIds.size(), subscriptions.size());
+        }
+        if (subscriptions.size() < 2) {
+            throw new BusinessException("INSUFFICIENT_SUBSCRIPTIONS",
+                    "최소 2개 이상의 청약을 비교할 수 있습니다.");
+        }
+        return ComparisonResponse.of(subscriptions);
+    }
+
+    /**
+     * Re-order the compared subscriptions to match the request and summarize them in that order
+     * The summary is a single pass over a handful of rows, so rebuilding it is cheaper than caching per order
+     */
+    private ComparisonResponse inRequestOrder(ComparisonResponse comparison, List<Long> subscriptionIds) {
+        Map<Long, SubscriptionDto> byId = comparison.getSubscriptions().stream()
+                .collect(Collectors.toMap(SubscriptionDto::getId, Function.identity()));
+        List<SubscriptionDto> ordered = new ArrayList<>(byId.size());
+        for (Long id : new LinkedHashSet<>(subscriptionIds)) {
+            SubscriptionDto dto = byId.get(id);
+            if (dto != null) {
+                ordered.add(dto);
+            }
+        }
+        return ComparisonResponse.of(ordered);
+    }
+
+    private ComparisonResponse getCached(String key) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            return cache != null ? cache.get(key, ComparisonResponse.class) : null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read comparison from cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putCached(String key, ComparisonResponse comparison) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(key, comparison);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache comparison: {}", e.getMessage());
+        }
+    }
+}
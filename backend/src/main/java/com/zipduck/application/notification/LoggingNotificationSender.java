@@ -0,0 +1,23 @@
+package com.zipduck.application.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Local delivery stub that logs notifications instead of sending them
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.notification", name = "sender", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(SubscriptionNotification notification, List<Long> userIds) {
+        log.info("Notify {} users of new subscription id: {} ({}, {})",
+                userIds.size(), notification.subscriptionId(), notification.name(), notification.location());
+        log.debug("Notified user ids: {}", userIds);
+    }
+}
@@ -0,0 +1,94 @@
+package com.zipduck.application.notification;
+
+import com.zipduck.domain.eligibility.UserEligibilityIndex;
+import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionCatalog;
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent;
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+import com.zipduck.domain.subscription.SubscriptionQueryService;
+import com.zipduck.domain.user.UserProfileCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notifies users of newly listed subscriptions they qualify for
+ * FR-015: Only users with notifications enabled, eligible for the subscription and
+ * preferring its region (or without a region preference) are notified.
+ *
+ * New listings from the collector and PDF uploads are queued after commit and fanned out
+ * in batches through the configured {@link NotificationSender}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewSubscriptionNotifier {
+
+    private final SubscriptionCatalog subscriptionCatalog;
+    private final SubscriptionQueryService subscriptionQueryService;
+    private final UserProfileCatalog userProfileCatalog;
+    private final NotificationSender notificationSender;
+
+    private final Set<Long> pendingSubscriptions = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.notification.batch-size:500}")
+    private int batchSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(SubscriptionCatalogChangedEvent event) {
+        if (event.type() == SubscriptionCatalogChangedEvent.ChangeType.CREATED) {
+            pendingSubscriptions.addAll(event.subscriptionIds());
+        }
+    }
+
+    /**
+     * Fan out queued new listings
+     */
+    @Scheduled(fixedDelayString = "${app.notification.flush-interval-ms:10000}")
+    public void flush() {
+        List<Long> subscriptionIds = new ArrayList<>(pendingSubscriptions);
+        if (subscriptionIds.isEmpty()) {
+            return;
+        }
+        pendingSubscriptions.removeAll(subscriptionIds);
+
+        SubscriptionCatalogSnapshot catalog = subscriptionCatalog.awaitCurrent();
+        UserEligibilityIndex users = userProfileCatalog.current();
+        for (Subscription subscription : subscriptionQueryService.getAllByIds(subscriptionIds)) {
+            try {
+                notifyEligibleUsers(subscription, catalog, users);
+            } catch (RuntimeException e) {
+                log.error("Failed to send notifications for subscription id: {}", subscription.getId(), e);
+            }
+        }
+    }
+
+    private void notifyEligibleUsers(Subscription subscription, SubscriptionCatalogSnapshot catalog,
+                                     UserEligibilityIndex users) {
+        int row = catalog.rowOf(subscription.getId());
+        if (row < 0) {
+            return; // Deactivated before the fan-out ran
+        }
+
+        int[] recipients = users.findEligible(catalog, row, true, true);
+        SubscriptionNotification notification = SubscriptionNotification.of(subscription);
+        for (int from = 0; from < recipients.length; from += batchSize) {
+            int to = Math.min(from + batchSize, recipients.length);
+            List<Long> userIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                userIds.add(users.userId(recipients[i]));
+            }
+            notificationSender.send(notification, userIds);
+        }
+        log.info("Notified {} users of new subscription id: {}", recipients.length, subscription.getId());
+    }
+}
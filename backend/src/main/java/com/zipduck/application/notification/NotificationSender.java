@@ -0,0 +1,16 @@
+package com.zipduck.application.notification;
+
+import java.util.List;
+
+/**
+ * Delivery channel for subscription notifications
+ * Implementations receive users in batches and must not block for long; the default
+ * {@link LoggingNotificationSender} only logs. Select another with {@code app.notification.sender}.
+ */
+public interface NotificationSender {
+
+    /**
+     * Deliver one notification to a batch of users
+     */
+    void send(SubscriptionNotification notification, List<Long> userIds);
+}
@@ -0,0 +1,27 @@
+package com.zipduck.application.notification;
+
+import com.zipduck.domain.subscription.Subscription;
+
+import java.time.LocalDate;
+
+/**
+ * Notification payload for a newly listed subscription
+ */
+public record SubscriptionNotification(
+        Long subscriptionId,
+        String name,
+        String location,
+        LocalDate applicationStartDate,
+        LocalDate applicationEndDate
+) {
+
+    public static SubscriptionNotification of(Subscription subscription) {
+        return new SubscriptionNotification(
+                subscription.getId(),
+                subscription.getName(),
+                subscription.getLocation(),
+                subscription.getApplicationStartDate(),
+                subscription.getApplicationEndDate()
+        );
+    }
+}
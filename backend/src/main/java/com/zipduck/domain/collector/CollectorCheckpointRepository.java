@@ -0,0 +1,53 @@
+package com.zipduck.domain.collector;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for CollectorCheckpoint entity, keyed by source name
+ */
+public interface CollectorCheckpointRepository extends JpaRepository<CollectorCheckpoint, String> {
+
+    /**
+     * Load a checkpoint and lock it until the transaction ends
+     * Writes fenced by the checkpoint's token take this lock first, so a newer holder's claim
+     * cannot commit between the token check and the write
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CollectorCheckpoint c WHERE c.source = :source")
+    Optional<CollectorCheckpoint> findForUpdate(@Param("source") String source);
+
+    /**
+     * Record a new lease holder's token at the start of its run, fencing out older holders
+     * Returns 0 when a holder with a newer token has already claimed the checkpoint
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CollectorCheckpoint c SET c.fencingToken = :fencingToken " +
+           "WHERE c.source = :source AND (c.fencingToken IS NULL OR c.fencingToken <= :fencingToken)")
+    int claim(@Param("source") String source, @Param("fencingToken") long fencingToken);
+
+    /**
+     * Store an existing checkpoint unless a newer lease holder has written it
+     * Returns 0 when {@code fencingToken} is older than the stored token
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CollectorCheckpoint c SET c.lastAnnouncementDate = :lastAnnouncementDate, " +
+           "c.lastExternalId = :lastExternalId, c.lastFullSyncAt = :lastFullSyncAt, c.fencingToken = :fencingToken " +
+           "WHERE c.source = :source AND (c.fencingToken IS NULL OR c.fencingToken <= :fencingToken)")
+    int updateFenced(@Param("source") String source,
+                     @Param("lastAnnouncementDate") LocalDate lastAnnouncementDate,
+                     @Param("lastExternalId") String lastExternalId,
+                     @Param("lastFullSyncAt") LocalDateTime lastFullSyncAt,
+                     @Param("fencingToken") long fencingToken);
+}
@@ -0,0 +1,83 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+
+import java.util.BitSet;
+
+/**
+ * Bitmap pre-filter over the four eligibility checks (age, income, household, housing owned)
+ * FR-004, FR-032: A query ANDs one bitset per criterion (plus source) and leaves only the
+ * surviving rows for the exact check in {@link EligibilityCalculator}
+ */
+public final class EligibilityBitmapIndex {
+
+    private static final int MAX_BUCKETS = 256;
+
+    private final RangeBitmap age;
+    private final RangeBitmap income;
+    private final RangeBitmap household;
+    private final RangeBitmap housingOwned;
+    private final BitSet[] bySource;
+
+    private EligibilityBitmapIndex(RangeBitmap age, RangeBitmap income, RangeBitmap household,
+                                   RangeBitmap housingOwned, BitSet[] bySource) {
+        this.age = age;
+        this.income = income;
+        this.household = household;
+        this.housingOwned = housingOwned;
+        this.bySource = bySource;
+    }
+
+    public static EligibilityBitmapIndex build(SubscriptionCatalogSnapshot catalog) {
+        int size = catalog.size();
+
+        BitSet[] bySource = new BitSet[Subscription.DataSource.values().length];
+        for (int i = 0; i < bySource.length; i++) {
+            bySource[i] = new BitSet(size);
+        }
+        for (int row = 0; row < size; row++) {
+            bySource[catalog.dataSource(row).ordinal()].set(row);
+        }
+
+        return new EligibilityBitmapIndex(
+                RangeBitmap.build(size, row -> widen(catalog.minAge(row)), row -> widen(catalog.maxAge(row)), MAX_BUCKETS),
+                RangeBitmap.build(size, catalog::minIncome, catalog::maxIncome, MAX_BUCKETS),
+                RangeBitmap.build(size, row -> widen(catalog.minHousehold(row)),
+                        row -> widen(catalog.maxHousehold(row)), MAX_BUCKETS),
+                RangeBitmap.build(size, row -> Long.MIN_VALUE, row -> widen(catalog.maxHousingOwned(row)), MAX_BUCKETS),
+                bySource
+        );
+    }
+
+    /**
+     * Rows that may be eligible for the given profile values
+     * Exact when the catalog has few distinct bounds; otherwise a superset
+     *
+     * @return a new bitset owned by the caller
+     */
+    public BitSet candidates(int userAge, long userIncome, int userHousehold, int userHousingOwned,
+                             Subscription.DataSource sourceFilter) {
+        BitSet result = (BitSet) age.rowsFor(userAge).clone();
+        result.and(income.rowsFor(userIncome));
+        result.and(household.rowsFor(userHousehold));
+        result.and(housingOwned.rowsFor(userHousingOwned));
+        if (sourceFilter != null) {
+            result.and(bySource[sourceFilter.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Map int sentinels onto the long sentinels {@link RangeBitmap} understands
+     */
+    private static long widen(int bound) {
+        if (bound == SubscriptionCatalogSnapshot.UNBOUNDED_MIN_INT) {
+            return Long.MIN_VALUE;
+        }
+        if (bound == SubscriptionCatalogSnapshot.UNBOUNDED_MAX_INT) {
+            return Long.MAX_VALUE;
+        }
+        return bound;
+    }
+}
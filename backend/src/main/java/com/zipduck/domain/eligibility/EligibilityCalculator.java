@@ -1,9 +1,18 @@
 package com.zipduck.domain.eligibility;
 
+import com.zipduck.domain.region.RegionDictionary;
 import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+import com.zipduck.domain.subscription.SubscriptionSummary;
 import com.zipduck.domain.user.UserProfile;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Service for calculating eligibility and filtering logic
  * FR-004, FR-012, FR-032
@@ -41,6 +50,86 @@ public class EligibilityCalculator {
         return true;
     }
 
+    /**
+     * Find catalog rows the user is eligible for
+     * FR-004, FR-032: Same inclusive checks as {@link #isEligible(UserProfile, Subscription)}
+     * SC-006: Runs over primitive catalog columns - no entity hydration, no boxing in the loop
+     * A bitmap pre-filter narrows the rows before the exact per-row checks
+     *
+     * @return eligible row indexes in catalog order
+     */
+    public int[] findEligibleRows(UserProfile profile, SubscriptionCatalogSnapshot catalog,
+                                  Subscription.DataSource sourceFilter) {
+        int age = profile.getAge();
+        long income = profile.getAnnualIncome();
+        int household = profile.getHouseholdMembers();
+        int housingOwned = profile.getHousingOwned();
+
+        // AND the per-criterion bitsets, then run the exact checks only on the survivors
+        BitSet candidates = catalog.bitmapIndex().candidates(age, income, household, housingOwned, sourceFilter);
+        int[] rows = new int[candidates.cardinality()];
+        int count = 0;
+        for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+            if (isEligible(age, income, household, housingOwned, catalog, row)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Check eligibility against a single catalog row
+     * Unbounded criteria are stored as sentinels, so every check is a plain comparison
+     */
+    public boolean isEligible(int age, long income, int household, int housingOwned,
+                              SubscriptionCatalogSnapshot catalog, int row) {
+        return age >= catalog.minAge(row) && age <= catalog.maxAge(row)
+                && income >= catalog.minIncome(row) && income <= catalog.maxIncome(row)
+                && household >= catalog.minHousehold(row) && household <= catalog.maxHousehold(row)
+                && housingOwned <= catalog.maxHousingOwned(row);
+    }
+
+    /**
+     * Calculate match scores for eligible catalog rows
+     * FR-008: Same scoring as {@link #calculateMatchScore(UserProfile, Subscription)}, over catalog columns
+     *
+     * @param rows rows the profile is already known to be eligible for
+     * @return scores parallel to {@code rows}
+     */
+    public int[] calculateMatchScores(UserProfile profile, SubscriptionCatalogSnapshot catalog, int[] rows) {
+        long preferenceMask = profile.getLocationPreferenceMask();
+        long income = profile.getAnnualIncome();
+        int housingOwned = profile.getHousingOwned();
+
+        int[] scores = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            scores[i] = calculateMatchScore(income, housingOwned, preferenceMask, catalog, rows[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * Calculate the match score of one eligible catalog row from primitive profile values
+     */
+    public int calculateMatchScore(long income, int housingOwned, long preferenceMask,
+                                   SubscriptionCatalogSnapshot catalog, int row) {
+        int penalties = 0;
+        if (catalog.hasMaxHousingOwned(row) && housingOwned > 0) {
+            penalties += 5;
+        }
+        if (catalog.hasIncomeRange(row)) {
+            long incomeRange = catalog.maxIncome(row) - catalog.minIncome(row);
+            long incomePosition = income - catalog.minIncome(row);
+            if (incomePosition < incomeRange * 0.1 || incomePosition > incomeRange * 0.9) {
+                penalties += 10;
+            }
+        }
+        if (!RegionDictionary.matches(preferenceMask, catalog.regionId(row))) {
+            penalties += 15;
+        }
+        return Math.max(0, 100 - penalties);
+    }
+
     /**
      * Calculate match score for a subscription (0-100)
      * FR-008: Calculate eligibility score
@@ -49,19 +138,84 @@ public class EligibilityCalculator {
         if (!isEligible(profile, subscription)) {
             return 0;
         }
+        return scoreEligible(profile, EligibilityCriteria.of(subscription), profile.getLocationPreferenceMask());
+    }
+
+    /**
+     * Get eligibility details showing which criteria pass/fail
+     */
+    public EligibilityDetails getEligibilityDetails(UserProfile profile, Subscription subscription) {
+        return evaluate(profile, EligibilityCriteria.of(subscription), profile.getLocationPreferenceMask());
+    }
+
+    /**
+     * Evaluate a set of subscriptions for one profile
+     * Each (profile, subscription) pair is evaluated exactly once; sorting and DTO mapping
+     * reuse the resulting details and score.
+     */
+    public List<ScoredSubscription> scoreAll(UserProfile profile, Collection<Subscription> subscriptions) {
+        long preferenceMask = profile.getLocationPreferenceMask();
+        List<ScoredSubscription> scored = new ArrayList<>(subscriptions.size());
+        for (Subscription subscription : subscriptions) {
+            scored.add(new ScoredSubscription(subscription,
+                    evaluate(profile, EligibilityCriteria.of(subscription), preferenceMask)));
+        }
+        return scored;
+    }
+
+    /**
+     * Evaluate list-view projections for one profile, exactly once each
+     */
+    public List<ScoredSubscriptionSummary> scoreSummaries(UserProfile profile,
+                                                          Collection<SubscriptionSummary> summaries) {
+        long preferenceMask = profile.getLocationPreferenceMask();
+        List<ScoredSubscriptionSummary> scored = new ArrayList<>(summaries.size());
+        for (SubscriptionSummary summary : summaries) {
+            scored.add(new ScoredSubscriptionSummary(summary,
+                    evaluate(profile, EligibilityCriteria.of(summary), preferenceMask)));
+        }
+        return scored;
+    }
+
+    /**
+     * Single pass over all criteria: every check runs once and the score reuses the results
+     */
+    private EligibilityDetails evaluate(UserProfile profile, EligibilityCriteria criteria, long preferenceMask) {
+        boolean ageEligible = isAgeEligible(profile.getAge(), criteria.minAge(), criteria.maxAge());
+        boolean incomeEligible = isIncomeEligible(profile.getAnnualIncome(),
+                criteria.minIncome(), criteria.maxIncome());
+        boolean householdEligible = isHouseholdEligible(profile.getHouseholdMembers(),
+                criteria.minHouseholdMembers(), criteria.maxHouseholdMembers());
+        boolean housingOwnedEligible = isHousingOwnedEligible(profile.getHousingOwned(),
+                criteria.maxHousingOwned());
+        boolean overallEligible = ageEligible && incomeEligible && householdEligible && housingOwnedEligible;
 
+        return EligibilityDetails.builder()
+                .ageEligible(ageEligible)
+                .incomeEligible(incomeEligible)
+                .householdEligible(householdEligible)
+                .housingOwnedEligible(housingOwnedEligible)
+                .overallEligible(overallEligible)
+                .matchScore(overallEligible ? scoreEligible(profile, criteria, preferenceMask) : 0)
+                .build();
+    }
+
+    /**
+     * Score a subscription the profile is already known to be eligible for
+     */
+    private int scoreEligible(UserProfile profile, EligibilityCriteria criteria, long preferenceMask) {
         int score = 100;
         int penalties = 0;
 
         // Prefer subscriptions with lower housing owned requirements
-        if (subscription.getMaxHousingOwned() != null && profile.getHousingOwned() > 0) {
+        if (criteria.maxHousingOwned() != null && profile.getHousingOwned() > 0) {
             penalties += 5;
         }
 
         // Prefer subscriptions with better income match
-        if (subscription.getMinIncome() != null && subscription.getMaxIncome() != null) {
-            long incomeRange = subscription.getMaxIncome() - subscription.getMinIncome();
-            long incomePosition = profile.getAnnualIncome() - subscription.getMinIncome();
+        if (criteria.minIncome() != null && criteria.maxIncome() != null) {
+            long incomeRange = criteria.maxIncome() - criteria.minIncome();
+            long incomePosition = profile.getAnnualIncome() - criteria.minIncome();
             // Penalize if user is near the boundaries
             if (incomePosition < incomeRange * 0.1 || incomePosition > incomeRange * 0.9) {
                 penalties += 10;
@@ -69,40 +223,14 @@ public class EligibilityCalculator {
         }
 
         // Location preference bonus
-        if (profile.getLocationPreferences() != null && subscription.getLocation() != null) {
-            String[] preferredLocations = profile.getLocationPreferences().split(",");
-            boolean locationMatch = false;
-            for (String loc : preferredLocations) {
-                if (subscription.getLocation().contains(loc.trim())) {
-                    locationMatch = true;
-                    break;
-                }
-            }
-            if (!locationMatch) {
-                penalties += 15;
-            }
+        if (criteria.location() != null
+                && !RegionDictionary.matches(preferenceMask, criteria.regionId())) {
+            penalties += 15;
         }
 
         return Math.max(0, score - penalties);
     }
 
-    /**
-     * Get eligibility details showing which criteria pass/fail
-     */
-    public EligibilityDetails getEligibilityDetails(UserProfile profile, Subscription subscription) {
-        return EligibilityDetails.builder()
-                .ageEligible(isAgeEligible(profile.getAge(), subscription.getMinAge(), subscription.getMaxAge()))
-                .incomeEligible(isIncomeEligible(profile.getAnnualIncome(),
-                        subscription.getMinIncome(), subscription.getMaxIncome()))
-                .householdEligible(isHouseholdEligible(profile.getHouseholdMembers(),
-                        subscription.getMinHouseholdMembers(), subscription.getMaxHouseholdMembers()))
-                .housingOwnedEligible(isHousingOwnedEligible(profile.getHousingOwned(),
-                        subscription.getMaxHousingOwned()))
-                .overallEligible(isEligible(profile, subscription))
-                .matchScore(calculateMatchScore(profile, subscription))
-                .build();
-    }
-
     private boolean isAgeEligible(Integer userAge, Integer minAge, Integer maxAge) {
         if (minAge != null && userAge < minAge) {
             return false;
@@ -0,0 +1,40 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.region.RegionDictionary;
+import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionSummary;
+
+/**
+ * The subscription fields eligibility and scoring read, shared by entities and projections
+ */
+record EligibilityCriteria(
+        Integer minAge,
+        Integer maxAge,
+        Long minIncome,
+        Long maxIncome,
+        Integer minHouseholdMembers,
+        Integer maxHouseholdMembers,
+        Integer maxHousingOwned,
+        String location,
+        int regionId
+) {
+
+    static EligibilityCriteria of(Subscription subscription) {
+        return new EligibilityCriteria(
+                subscription.getMinAge(), subscription.getMaxAge(),
+                subscription.getMinIncome(), subscription.getMaxIncome(),
+                subscription.getMinHouseholdMembers(), subscription.getMaxHouseholdMembers(),
+                subscription.getMaxHousingOwned(),
+                subscription.getLocation(), subscription.getRegionId());
+    }
+
+    static EligibilityCriteria of(SubscriptionSummary summary) {
+        return new EligibilityCriteria(
+                summary.minAge(), summary.maxAge(),
+                summary.minIncome(), summary.maxIncome(),
+                summary.minHouseholdMembers(), summary.maxHouseholdMembers(),
+                summary.maxHousingOwned(),
+                summary.location(),
+                summary.regionId() != null ? summary.regionId() : RegionDictionary.regionIdOf(summary.location()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.BaseEntity;
+import com.zipduck.domain.subscription.Subscription;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Materialized eligible (user, subscription) pair with its match score
+ * FR-004, FR-008: Rows exist only for eligible pairs, so every criterion flag is true;
+ * written by EligibilityMatchMaterializer, read as an indexed range ordered by score
+ */
+@Entity
+@Table(
+        name = "eligibility_matches",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "subscription_id"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EligibilityMatch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Subscription.DataSource dataSource;
+
+    @Column(nullable = false)
+    private Integer matchScore;
+
+    @Column(nullable = false)
+    private Boolean ageEligible;
+
+    @Column(nullable = false)
+    private Boolean incomeEligible;
+
+    @Column(nullable = false)
+    private Boolean householdEligible;
+
+    @Column(nullable = false)
+    private Boolean housingOwnedEligible;
+
+    @Column(nullable = false)
+    private Boolean overallEligible;
+}
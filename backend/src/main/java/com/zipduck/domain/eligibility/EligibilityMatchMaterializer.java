@@ -0,0 +1,212 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.subscription.SubscriptionCatalog;
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent;
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+import com.zipduck.domain.user.User;
+import com.zipduck.domain.user.UserProfile;
+import com.zipduck.domain.user.UserProfileCatalog;
+import com.zipduck.domain.user.UserProfileChangedEvent;
+import com.zipduck.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background materializer for the eligibility_matches table
+ * FR-004, FR-008: Keeps one row per eligible (user, subscription) pair with its match score
+ *
+ * Changes are queued after commit and applied in batches:
+ * - profile change: that user's rows are replaced
+ * - catalog change: only the changed subscriptions' rows are replaced, for the users the
+ *   reverse {@link UserEligibilityIndex} reports as eligible
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EligibilityMatchMaterializer {
+
+    private static final int UPSERT_BATCH_SIZE = 1000;
+
+    // Every stored pair is eligible, so all criterion flags are true
+    private static final String UPSERT_SQL =
+            "INSERT INTO eligibility_matches (user_id, subscription_id, data_source, match_score, " +
+            "age_eligible, income_eligible, household_eligible, housing_owned_eligible, overall_eligible) " +
+            "VALUES (?, ?, ?, ?, TRUE, TRUE, TRUE, TRUE, TRUE) " +
+            "ON DUPLICATE KEY UPDATE data_source = VALUES(data_source), match_score = VALUES(match_score)";
+
+    private final UserRepository userRepository;
+    private final EligibilityMatchRepository eligibilityMatchRepository;
+    private final EligibilityCalculator eligibilityCalculator;
+    private final SubscriptionCatalog subscriptionCatalog;
+    private final UserProfileCatalog userProfileCatalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingSubscriptions = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        pendingUsers.add(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(SubscriptionCatalogChangedEvent event) {
+        pendingSubscriptions.addAll(event.subscriptionIds());
+    }
+
+    /**
+     * Queue a user whose matches are missing or outdated (e.g. profiles created before materialization)
+     */
+    public void requestRefresh(Long userId) {
+        pendingUsers.add(userId);
+    }
+
+    /**
+     * Apply queued changes
+     * Subscriptions go first; a queued user's full refresh then supersedes them for that user
+     */
+    @Scheduled(fixedDelayString = "${app.eligibility-matches.flush-interval-ms:5000}")
+    public void flush() {
+        List<Long> subscriptionIds = drain(pendingSubscriptions);
+        if (!subscriptionIds.isEmpty()) {
+            try {
+                refreshSubscriptions(subscriptionIds);
+            } catch (RuntimeException e) {
+                log.error("Failed to materialize eligibility matches for {} subscriptions, will retry",
+                        subscriptionIds.size(), e);
+                pendingSubscriptions.addAll(subscriptionIds);
+            }
+        }
+
+        for (Long userId : drain(pendingUsers)) {
+            try {
+                refreshUser(userId);
+            } catch (RuntimeException e) {
+                // Not re-queued: reads fall back to real-time evaluation and request a refresh again
+                log.error("Failed to materialize eligibility matches for user id: {}", userId, e);
+            }
+        }
+    }
+
+    /**
+     * Replace all of one user's matches
+     * The catalog is checked against the primary's stamp first, so subscriptions committed by other
+     * nodes since the last probe are not dropped from a user marked as materialized
+     */
+    public void refreshUser(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SubscriptionCatalogSnapshot catalog = subscriptionCatalog.awaitLatest();
+            UserProfile profile = userRepository.findByIdWithProfile(userId)
+                    .map(User::getProfile)
+                    .orElse(null);
+            eligibilityMatchRepository.deleteByUserId(userId);
+            if (profile == null) {
+                return;
+            }
+
+            int[] rows = eligibilityCalculator.findEligibleRows(profile, catalog, null);
+            int[] scores = eligibilityCalculator.calculateMatchScores(profile, catalog, rows);
+            List<Object[]> batch = new ArrayList<>(rows.length);
+            addMatches(batch, userId, catalog, rows, scores);
+            upsert(batch);
+
+            userRepository.markMatchesMaterialized(profile.getId(), profile.getRevision());
+            log.debug("Materialized {} eligibility matches for user id: {}", rows.length, userId);
+        });
+    }
+
+    /**
+     * Replace the matches of the given subscriptions for every user
+     * Eligible users come from the reverse index; subscriptions no longer in the active
+     * catalog simply lose their rows. Each subscription is replaced in its own transaction, and a
+     * subscription that fails is queued again without undoing the ones already committed.
+     * Users whose profile changed after the index was read are left untouched and queued for a full refresh,
+     * so rows written by {@link #refreshUser} from the newer profile are never replaced with older values.
+     */
+    public void refreshSubscriptions(List<Long> subscriptionIds) {
+        long startTime = System.currentTimeMillis();
+        SubscriptionCatalogSnapshot catalog = subscriptionCatalog.awaitCurrent();
+        LocalDateTime usersReadAt = LocalDateTime.now();
+        UserEligibilityIndex users = userProfileCatalog.current();
+
+        int matched = 0;
+        for (Long subscriptionId : subscriptionIds) {
+            try {
+                matched += transactionTemplate.execute(
+                        status -> refreshSubscription(subscriptionId, catalog, users, usersReadAt));
+            } catch (RuntimeException e) {
+                log.error("Failed to materialize eligibility matches for subscription id: {}, will retry",
+                        subscriptionId, e);
+                pendingSubscriptions.add(subscriptionId);
+            }
+        }
+        log.info("Materialized {} eligibility matches for {} subscriptions in {}ms",
+                matched, subscriptionIds.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private int refreshSubscription(Long subscriptionId, SubscriptionCatalogSnapshot catalog,
+                                    UserEligibilityIndex users, LocalDateTime usersReadAt) {
+        Set<Long> outdated = userProfileCatalog.findOutdated(users, usersReadAt);
+        if (outdated.isEmpty()) {
+            eligibilityMatchRepository.deleteBySubscriptionIds(List.of(subscriptionId));
+        } else {
+            eligibilityMatchRepository.deleteBySubscriptionIdExceptUsers(subscriptionId, outdated);
+            outdated.forEach(this::requestRefresh);
+        }
+        int row = catalog.rowOf(subscriptionId);
+        if (row < 0) {
+            return 0;
+        }
+
+        int total = 0;
+        String dataSource = catalog.dataSource(row).name();
+        List<Object[]> batch = new ArrayList<>();
+        for (int user : users.findEligible(catalog, row, false, false)) {
+            if (outdated.contains(users.userId(user))) {
+                continue;
+            }
+            int score = eligibilityCalculator.calculateMatchScore(users.income(user),
+                    users.housingOwned(user), users.preferenceMask(user), catalog, row);
+            batch.add(new Object[]{users.userId(user), subscriptionId, dataSource, score});
+            if (batch.size() == UPSERT_BATCH_SIZE) {
+                upsert(batch);
+                total += batch.size();
+                batch.clear();
+            }
+        }
+        upsert(batch);
+        return total + batch.size();
+    }
+
+    private void addMatches(List<Object[]> batch, Long userId, SubscriptionCatalogSnapshot catalog,
+                            int[] rows, int[] scores) {
+        for (int i = 0; i < rows.length; i++) {
+            batch.add(new Object[]{userId, catalog.id(rows[i]), catalog.dataSource(rows[i]).name(), scores[i]});
+        }
+    }
+
+    private void upsert(List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        }
+    }
+
+    private static List<Long> drain(Set<Long> pending) {
+        List<Long> drained = new ArrayList<>(pending);
+        pending.removeAll(drained);
+        return drained;
+    }
+}
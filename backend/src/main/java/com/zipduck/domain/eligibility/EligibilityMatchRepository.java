@@ -0,0 +1,51 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.subscription.Subscription;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+/**
+ * Repository for materialized eligibility matches
+ * Reads are range scans on (user_id, [data_source,] match_score, subscription_id)
+ */
+public interface EligibilityMatchRepository extends JpaRepository<EligibilityMatch, Long> {
+
+    /**
+     * User's matches, best score first, subscription ID as tie-breaker
+     */
+    @Query(value = "SELECT m FROM EligibilityMatch m WHERE m.userId = :userId " +
+                   "ORDER BY m.matchScore DESC, m.subscriptionId ASC",
+           countQuery = "SELECT COUNT(m) FROM EligibilityMatch m WHERE m.userId = :userId")
+    Page<EligibilityMatch> findRankedByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * User's matches from one data source, best score first
+     * FR-027: Source filtering
+     */
+    @Query(value = "SELECT m FROM EligibilityMatch m WHERE m.userId = :userId AND m.dataSource = :dataSource " +
+                   "ORDER BY m.matchScore DESC, m.subscriptionId ASC",
+           countQuery = "SELECT COUNT(m) FROM EligibilityMatch m " +
+                        "WHERE m.userId = :userId AND m.dataSource = :dataSource")
+    Page<EligibilityMatch> findRankedByUserIdAndDataSource(@Param("userId") Long userId,
+                                                           @Param("dataSource") Subscription.DataSource dataSource,
+                                                           Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EligibilityMatch m WHERE m.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM EligibilityMatch m WHERE m.subscriptionId IN :subscriptionIds")
+    int deleteBySubscriptionIds(@Param("subscriptionIds") Collection<Long> subscriptionIds);
+
+    @Modifying
+    @Query("DELETE FROM EligibilityMatch m WHERE m.subscriptionId = :subscriptionId AND m.userId NOT IN :userIds")
+    int deleteBySubscriptionIdExceptUsers(@Param("subscriptionId") Long subscriptionId,
+                                          @Param("userIds") Collection<Long> userIds);
+}
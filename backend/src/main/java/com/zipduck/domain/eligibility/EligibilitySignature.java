@@ -0,0 +1,174 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.region.RegionDictionary;
+import com.zipduck.domain.subscription.Subscription;
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+import com.zipduck.domain.user.UserProfile;
+
+import java.util.Arrays;
+
+/**
+ * Canonical profile signature for sharing recommendation rankings between users
+ * FR-004, FR-008: Two profiles with the same signature get exactly the same eligible rows and
+ * match scores against the catalog, hence the same ranking.
+ *
+ * Each profile value is quantized to the interval between the catalog's own cut points - the
+ * values where some row's eligibility or score penalty flips - so an age, income or household
+ * "band" is as wide as the catalog allows and never wider. The key also carries a content
+ * version of the catalog, so any catalog change yields new keys.
+ */
+public final class EligibilitySignature {
+
+    /** Bump when eligibility or scoring rules change so cached rankings are not reused */
+    private static final int RULES_VERSION = 1;
+
+    private final String catalogVersion;
+    private final long[] ageCuts;
+    private final long[] incomeCuts;
+    private final long[] householdCuts;
+    private final long[] housingOwnedCuts;
+    private final long catalogRegions;
+
+    private EligibilitySignature(String catalogVersion, long[] ageCuts, long[] incomeCuts, long[] householdCuts,
+                                 long[] housingOwnedCuts, long catalogRegions) {
+        this.catalogVersion = catalogVersion;
+        this.ageCuts = ageCuts;
+        this.incomeCuts = incomeCuts;
+        this.householdCuts = householdCuts;
+        this.housingOwnedCuts = housingOwnedCuts;
+        this.catalogRegions = catalogRegions;
+    }
+
+    public static EligibilitySignature build(SubscriptionCatalogSnapshot catalog) {
+        int size = catalog.size();
+        CutCollector age = new CutCollector(size * 2);
+        CutCollector income = new CutCollector(size * 4);
+        CutCollector household = new CutCollector(size * 2);
+        CutCollector housingOwned = new CutCollector(size + 1);
+        long regions = 0L;
+        long hash = 0xcbf29ce484222325L;
+
+        // Penalty for owning any housing (see EligibilityCalculator#calculateMatchScores)
+        housingOwned.add(1);
+
+        for (int row = 0; row < size; row++) {
+            age.addRange(catalog.minAge(row), SubscriptionCatalogSnapshot.UNBOUNDED_MIN_INT,
+                    catalog.maxAge(row), SubscriptionCatalogSnapshot.UNBOUNDED_MAX_INT);
+            household.addRange(catalog.minHousehold(row), SubscriptionCatalogSnapshot.UNBOUNDED_MIN_INT,
+                    catalog.maxHousehold(row), SubscriptionCatalogSnapshot.UNBOUNDED_MAX_INT);
+            if (catalog.hasMaxHousingOwned(row)) {
+                housingOwned.add((long) catalog.maxHousingOwned(row) + 1);
+            }
+            income.addRange(catalog.minIncome(row), SubscriptionCatalogSnapshot.UNBOUNDED_MIN_LONG,
+                    catalog.maxIncome(row), SubscriptionCatalogSnapshot.UNBOUNDED_MAX_LONG);
+            if (catalog.hasIncomeRange(row)) {
+                addIncomeEdgeCuts(income, catalog.minIncome(row), catalog.maxIncome(row));
+            }
+            regions |= RegionDictionary.bitOf(catalog.regionId(row));
+
+            hash = mix(hash, catalog.id(row));
+            hash = mix(hash, catalog.minAge(row));
+            hash = mix(hash, catalog.maxAge(row));
+            hash = mix(hash, catalog.minIncome(row));
+            hash = mix(hash, catalog.maxIncome(row));
+            hash = mix(hash, catalog.minHousehold(row));
+            hash = mix(hash, catalog.maxHousehold(row));
+            hash = mix(hash, catalog.maxHousingOwned(row));
+            hash = mix(hash, catalog.regionId(row));
+            hash = mix(hash, catalog.dataSource(row).ordinal());
+        }
+
+        return new EligibilitySignature(Long.toHexString(hash) + "-" + size,
+                age.cuts(), income.cuts(), household.cuts(), housingOwned.cuts(), regions);
+    }
+
+    /**
+     * Content version of the catalog this signature was built from
+     */
+    public String catalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * Cache key for a profile's ranking with the given source filter
+     */
+    public String keyFor(UserProfile profile, Subscription.DataSource sourceFilter) {
+        long preferenceMask = profile.getLocationPreferenceMask();
+        // Only regions present in the catalog can change a score; "no preference" stays distinct
+        String regionKey = preferenceMask == RegionDictionary.NO_PREFERENCE
+                ? "any" : Long.toHexString(preferenceMask & catalogRegions);
+
+        return "r" + RULES_VERSION + ":" + catalogVersion
+                + ":" + (sourceFilter != null ? sourceFilter.name() : "ALL")
+                + ":a" + RangeBitmap.intervalOf(ageCuts, profile.getAge())
+                + ":i" + RangeBitmap.intervalOf(incomeCuts, profile.getAnnualIncome())
+                + ":h" + RangeBitmap.intervalOf(householdCuts, profile.getHouseholdMembers())
+                + ":o" + RangeBitmap.intervalOf(housingOwnedCuts, profile.getHousingOwned())
+                + ":l" + regionKey;
+    }
+
+    /**
+     * Cut points where the near-boundary income penalty turns off and back on
+     * Found against the exact comparison EligibilityCalculator uses, so rounding cannot split a band
+     */
+    private static void addIncomeEdgeCuts(CutCollector income, long minIncome, long maxIncome) {
+        long range = maxIncome - minIncome;
+        if (range < 0) {
+            return; // Row can never be eligible
+        }
+
+        // First income that is no longer in the bottom 10%
+        long low = minIncome + (long) Math.ceil(range * 0.1);
+        while (low > minIncome && !(low - 1 - minIncome < range * 0.1)) {
+            low--;
+        }
+        while (low - minIncome < range * 0.1) {
+            low++;
+        }
+        income.add(low);
+
+        // First income that is in the top 10%
+        long high = minIncome + (long) Math.floor(range * 0.9) + 1;
+        while (high - 1 - minIncome > range * 0.9) {
+            high--;
+        }
+        while (!(high - minIncome > range * 0.9)) {
+            high++;
+        }
+        income.add(high);
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    private static final class CutCollector {
+
+        private long[] points;
+        private int count;
+
+        CutCollector(int capacity) {
+            this.points = new long[Math.max(capacity, 1)];
+        }
+
+        void addRange(long min, long unboundedMin, long max, long unboundedMax) {
+            if (min != unboundedMin) {
+                add(min);
+            }
+            if (max != unboundedMax) {
+                add(max + 1);
+            }
+        }
+
+        void add(long point) {
+            if (count == points.length) {
+                points = Arrays.copyOf(points, count * 2);
+            }
+            points[count++] = point;
+        }
+
+        long[] cuts() {
+            return RangeBitmap.distinctSorted(points, count);
+        }
+    }
+}
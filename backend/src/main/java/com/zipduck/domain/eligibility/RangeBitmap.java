@@ -0,0 +1,102 @@
+package com.zipduck.domain.eligibility;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Bucketed bitmap over one inclusive [min, max] criterion of the catalog
+ *
+ * The value axis is split into buckets at the catalog's own bound values. Each bucket keeps
+ * one bitset marking the rows a value inside that bucket could pass. When every distinct
+ * bound gets its own cut the bitsets are exact; past {@code maxBuckets} cuts are sampled and
+ * the bitsets become a superset, so callers must still run the exact check on survivors.
+ */
+final class RangeBitmap {
+
+    private final long[] cuts;
+    private final BitSet[] buckets;
+
+    private RangeBitmap(long[] cuts, BitSet[] buckets) {
+        this.cuts = cuts;
+        this.buckets = buckets;
+    }
+
+    /**
+     * @param min row lower bound, {@code Long.MIN_VALUE} when unbounded
+     * @param max row upper bound, {@code Long.MAX_VALUE} when unbounded
+     */
+    static RangeBitmap build(int size, IntToLongFunction min, IntToLongFunction max, int maxBuckets) {
+        // A row's result can only change where a value reaches its min or passes its max
+        long[] points = new long[size * 2];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            long lower = min.applyAsLong(row);
+            long upper = max.applyAsLong(row);
+            if (lower != Long.MIN_VALUE) {
+                points[count++] = lower;
+            }
+            if (upper != Long.MAX_VALUE) {
+                points[count++] = upper + 1;
+            }
+        }
+        long[] cuts = sample(distinctSorted(points, count), maxBuckets - 1);
+
+        // Bucket b covers [cuts[b - 1], cuts[b] - 1]; the first and last buckets are open-ended
+        BitSet[] buckets = new BitSet[cuts.length + 1];
+        for (int b = 0; b < buckets.length; b++) {
+            long bucketLow = b == 0 ? Long.MIN_VALUE : cuts[b - 1];
+            long bucketHigh = b == cuts.length ? Long.MAX_VALUE : cuts[b] - 1;
+            BitSet bits = new BitSet(size);
+            for (int row = 0; row < size; row++) {
+                if (min.applyAsLong(row) <= bucketHigh && max.applyAsLong(row) >= bucketLow) {
+                    bits.set(row);
+                }
+            }
+            buckets[b] = bits;
+        }
+        return new RangeBitmap(cuts, buckets);
+    }
+
+    /**
+     * Rows a value could pass - shared, callers must not modify it
+     */
+    BitSet rowsFor(long value) {
+        return buckets[bucketOf(value)];
+    }
+
+    private int bucketOf(long value) {
+        return intervalOf(cuts, value);
+    }
+
+    /**
+     * Number of cuts {@code <= value}, i.e. the interval between sorted cuts the value falls in
+     */
+    static int intervalOf(long[] cuts, long value) {
+        int index = Arrays.binarySearch(cuts, value);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    static long[] distinctSorted(long[] values, int count) {
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    private static long[] sample(long[] cuts, int maxCuts) {
+        if (cuts.length <= maxCuts) {
+            return cuts;
+        }
+        long[] sampled = new long[maxCuts];
+        for (int i = 0; i < maxCuts; i++) {
+            sampled[i] = cuts[(int) ((long) i * cuts.length / maxCuts)];
+        }
+        return sampled;
+    }
+}
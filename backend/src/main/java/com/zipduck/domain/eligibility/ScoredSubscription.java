@@ -0,0 +1,18 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.subscription.Subscription;
+
+/**
+ * A subscription together with its evaluated eligibility for one profile
+ * FR-007, FR-008: Computed once, then reused for sorting and DTO mapping
+ */
+public record ScoredSubscription(Subscription subscription, EligibilityDetails details) {
+
+    public int matchScore() {
+        return details.getMatchScore();
+    }
+
+    public boolean isEligible() {
+        return details.getOverallEligible();
+    }
+}
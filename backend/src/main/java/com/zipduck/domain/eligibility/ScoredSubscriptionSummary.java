@@ -0,0 +1,18 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.subscription.SubscriptionSummary;
+
+/**
+ * A list-view subscription projection together with its evaluated eligibility for one profile
+ * FR-007, FR-008: Computed once, then reused for DTO mapping
+ */
+public record ScoredSubscriptionSummary(SubscriptionSummary summary, EligibilityDetails details) {
+
+    public int matchScore() {
+        return details.getMatchScore();
+    }
+
+    public boolean isEligible() {
+        return details.getOverallEligible();
+    }
+}
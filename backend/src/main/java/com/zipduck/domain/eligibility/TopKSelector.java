@@ -0,0 +1,93 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+
+/**
+ * Bounded top-K selection over scored catalog rows
+ * Ranks by match score descending, then subscription ID ascending as a stable tie-breaker,
+ * so the same catalog always yields the same order and deeper pages stay consistent.
+ *
+ * Keeps a min-heap of the K best candidates (O(n log K)) instead of sorting every eligible row.
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * Select the best {@code k} rows
+     *
+     * @param rows   candidate rows
+     * @param scores scores parallel to {@code rows}
+     * @return up to {@code k} rows, best first
+     */
+    public static int[] select(SubscriptionCatalogSnapshot catalog, int[] rows, int[] scores, int k) {
+        int capacity = Math.min(k, rows.length);
+        if (capacity <= 0) {
+            return new int[0];
+        }
+
+        // heap holds positions into rows/scores; heap[0] is the worst retained candidate
+        int[] heap = new int[capacity];
+        int heapSize = 0;
+        for (int candidate = 0; candidate < rows.length; candidate++) {
+            if (heapSize < capacity) {
+                heap[heapSize] = candidate;
+                siftUp(catalog, rows, scores, heap, heapSize++);
+            } else if (ranksHigher(catalog, rows, scores, candidate, heap[0])) {
+                heap[0] = candidate;
+                siftDown(catalog, rows, scores, heap, heapSize);
+            }
+        }
+
+        // Pop worst-first into the tail of the result to get best-first order
+        int[] selected = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            selected[i] = rows[heap[0]];
+            heap[0] = heap[--heapSize];
+            siftDown(catalog, rows, scores, heap, heapSize);
+        }
+        return selected;
+    }
+
+    private static boolean ranksHigher(SubscriptionCatalogSnapshot catalog, int[] rows, int[] scores, int a, int b) {
+        if (scores[a] != scores[b]) {
+            return scores[a] > scores[b];
+        }
+        return catalog.id(rows[a]) < catalog.id(rows[b]);
+    }
+
+    private static void siftUp(SubscriptionCatalogSnapshot catalog, int[] rows, int[] scores, int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksHigher(catalog, rows, scores, heap[parent], heap[index])) {
+                break;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(SubscriptionCatalogSnapshot catalog, int[] rows, int[] scores, int[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && ranksHigher(catalog, rows, scores, heap[left], heap[right]) ? right : left;
+            if (!ranksHigher(catalog, rows, scores, heap[index], heap[worst])) {
+                return;
+            }
+            swap(heap, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
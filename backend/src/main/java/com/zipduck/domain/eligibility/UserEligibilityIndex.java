@@ -0,0 +1,253 @@
+package com.zipduck.domain.eligibility;
+
+import com.zipduck.domain.region.RegionDictionary;
+import com.zipduck.domain.subscription.SubscriptionCatalogSnapshot;
+import com.zipduck.domain.user.UserProfileIndexRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable reverse eligibility index over user profiles: "which users qualify for this subscription"
+ * FR-004, FR-032: Same inclusive checks as {@link EligibilityCalculator}, evaluated from the subscription side
+ *
+ * Every criterion keeps the profile rows sorted by value, so a subscription's [min, max] bound maps
+ * to a contiguous slice by binary search. Preferred regions keep one row list per region. A lookup
+ * walks only the smallest of these candidate sets and runs the exact checks on it, instead of
+ * scanning every profile.
+ */
+public final class UserEligibilityIndex {
+
+    private final long[] userIds;
+    private final int[] age;
+    private final long[] income;
+    private final int[] household;
+    private final int[] housingOwned;
+    private final long[] preferenceMask;
+    private final long[] revisions;
+    private final BitSet notificationsEnabled;
+    private final Map<Long, Integer> rowByUserId;
+
+    private final SortedColumn byAge;
+    private final SortedColumn byIncome;
+    private final SortedColumn byHousehold;
+    private final SortedColumn byHousingOwned;
+    private final int[][] byRegion;       // rows that name the region in their preferences
+    private final int[] noPreference;     // rows without location preferences (match every region)
+    private final int[] notifiable;       // rows with notifications enabled
+
+    private UserEligibilityIndex(List<UserProfileIndexRow> rows) {
+        int size = rows.size();
+        this.userIds = new long[size];
+        this.age = new int[size];
+        this.income = new long[size];
+        this.household = new int[size];
+        this.housingOwned = new int[size];
+        this.preferenceMask = new long[size];
+        this.revisions = new long[size];
+        this.notificationsEnabled = new BitSet(size);
+        this.rowByUserId = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            UserProfileIndexRow row = rows.get(i);
+            userIds[i] = row.userId();
+            age[i] = row.age();
+            income[i] = row.annualIncome();
+            household[i] = row.householdMembers();
+            housingOwned[i] = row.housingOwned();
+            preferenceMask[i] = row.locationPreferenceMask() != null
+                    ? row.locationPreferenceMask() : RegionDictionary.maskOf(row.locationPreferences());
+            revisions[i] = row.revision() != null ? row.revision() : 0L;
+            rowByUserId.put(row.userId(), i);
+            if (Boolean.TRUE.equals(row.notificationsEnabled())) {
+                notificationsEnabled.set(i);
+            }
+        }
+
+        this.byAge = SortedColumn.of(size, i -> age[i]);
+        this.byIncome = SortedColumn.of(size, i -> income[i]);
+        this.byHousehold = SortedColumn.of(size, i -> household[i]);
+        this.byHousingOwned = SortedColumn.of(size, i -> housingOwned[i]);
+
+        int regionCount = RegionDictionary.names().size();
+        this.byRegion = new int[regionCount][];
+        for (int regionId = 0; regionId < regionCount; regionId++) {
+            long bit = RegionDictionary.bitOf(regionId);
+            byRegion[regionId] = IntStream.range(0, size).filter(i -> (preferenceMask[i] & bit) != 0).toArray();
+        }
+        this.noPreference = IntStream.range(0, size)
+                .filter(i -> preferenceMask[i] == RegionDictionary.NO_PREFERENCE)
+                .toArray();
+        this.notifiable = notificationsEnabled.stream().toArray();
+    }
+
+    public static UserEligibilityIndex of(Collection<UserProfileIndexRow> rows) {
+        return new UserEligibilityIndex(new ArrayList<>(rows));
+    }
+
+    public static UserEligibilityIndex empty() {
+        return of(List.of());
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    public long userId(int row) {
+        return userIds[row];
+    }
+
+    /**
+     * Profile revision the row was read at
+     */
+    public long revision(int row) {
+        return revisions[row];
+    }
+
+    /**
+     * @return index row of the user, or -1 if the user has no profile in this index
+     */
+    public int rowOf(long userId) {
+        return rowByUserId.getOrDefault(userId, -1);
+    }
+
+    public long income(int row) {
+        return income[row];
+    }
+
+    public int housingOwned(int row) {
+        return housingOwned[row];
+    }
+
+    public long preferenceMask(int row) {
+        return preferenceMask[row];
+    }
+
+    /**
+     * Find profiles eligible for one catalog subscription
+     *
+     * @param regionMatchOnly only profiles whose location preferences include the subscription's region
+     * @param notifiableOnly  only profiles with notifications enabled
+     * @return matching index rows, in no particular order
+     */
+    public int[] findEligible(SubscriptionCatalogSnapshot catalog, int subscriptionRow,
+                              boolean regionMatchOnly, boolean notifiableOnly) {
+        int minAge = catalog.minAge(subscriptionRow);
+        int maxAge = catalog.maxAge(subscriptionRow);
+        long minIncome = catalog.minIncome(subscriptionRow);
+        long maxIncome = catalog.maxIncome(subscriptionRow);
+        int minHousehold = catalog.minHousehold(subscriptionRow);
+        int maxHousehold = catalog.maxHousehold(subscriptionRow);
+        int maxHousingOwned = catalog.maxHousingOwned(subscriptionRow);
+        int regionId = catalog.regionId(subscriptionRow);
+
+        // Pick the smallest candidate set; every other criterion is checked per candidate
+        List<Segment> best = byAge.slice(minAge, maxAge);
+        best = smaller(best, byIncome.slice(minIncome, maxIncome));
+        best = smaller(best, byHousehold.slice(minHousehold, maxHousehold));
+        best = smaller(best, byHousingOwned.slice(Long.MIN_VALUE, maxHousingOwned));
+        if (regionMatchOnly) {
+            best = smaller(best, List.of(Segment.of(byRegion[regionId]), Segment.of(noPreference)));
+        }
+        if (notifiableOnly) {
+            best = smaller(best, List.of(Segment.of(notifiable)));
+        }
+
+        int[] matches = new int[count(best)];
+        int matched = 0;
+        for (Segment segment : best) {
+            for (int i = segment.from(); i < segment.to(); i++) {
+                int row = segment.rows()[i];
+                if (age[row] >= minAge && age[row] <= maxAge
+                        && income[row] >= minIncome && income[row] <= maxIncome
+                        && household[row] >= minHousehold && household[row] <= maxHousehold
+                        && housingOwned[row] <= maxHousingOwned
+                        && (!regionMatchOnly || RegionDictionary.matches(preferenceMask[row], regionId))
+                        && (!notifiableOnly || notificationsEnabled.get(row))) {
+                    matches[matched++] = row;
+                }
+            }
+        }
+        return Arrays.copyOf(matches, matched);
+    }
+
+    private static List<Segment> smaller(List<Segment> a, List<Segment> b) {
+        return count(b) < count(a) ? b : a;
+    }
+
+    private static int count(List<Segment> segments) {
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.to() - segment.from();
+        }
+        return count;
+    }
+
+    /**
+     * Range of a row array - candidate sets are views, never copies
+     */
+    private record Segment(int[] rows, int from, int to) {
+
+        static Segment of(int[] rows) {
+            return new Segment(rows, 0, rows.length);
+        }
+    }
+
+    /**
+     * Rows sorted by one criterion value
+     */
+    private static final class SortedColumn {
+
+        private final long[] values;
+        private final int[] rows;
+
+        private SortedColumn(long[] values, int[] rows) {
+            this.values = values;
+            this.rows = rows;
+        }
+
+        static SortedColumn of(int size, IntToLongFunction value) {
+            int[] rows = IntStream.range(0, size)
+                    .boxed()
+                    .sorted(Comparator.comparingLong(value::applyAsLong))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = value.applyAsLong(rows[i]);
+            }
+            return new SortedColumn(values, rows);
+        }
+
+        /**
+         * Rows with {@code min <= value <= max}, as a single segment
+         */
+        List<Segment> slice(long min, long max) {
+            int from = firstAtLeast(min);
+            int to = max == Long.MAX_VALUE ? values.length : firstAtLeast(max + 1);
+            return List.of(new Segment(rows, from, Math.max(from, to)));
+        }
+
+        private int firstAtLeast(long target) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.zipduck.domain.favorite;
+
+/**
+ * Published when a user adds, removes or edits a favorite
+ * FR-009: Listeners keep anything derived from favorites consistent with the write
+ */
+public record FavoriteChangedEvent(Long userId) {
+}
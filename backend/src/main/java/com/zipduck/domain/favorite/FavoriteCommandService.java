@@ -7,6 +7,7 @@ import com.zipduck.domain.user.User;
 import com.zipduck.domain.user.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class FavoriteCommandService {
     private final FavoriteRepository favoriteRepository;
     private final UserQueryService userQueryService;
     private final SubscriptionQueryService subscriptionQueryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Add subscription to favorites
@@ -52,6 +54,7 @@ public class FavoriteCommandService {
                 .build();
 
         Favorite saved = favoriteRepository.save(favorite);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId));
         log.info("Added favorite - User: {}, Subscription: {}", userId, subscriptionId);
 
         return saved;
@@ -68,6 +71,7 @@ public class FavoriteCommandService {
         }
 
         favoriteRepository.deleteByUserIdAndSubscriptionId(userId, subscriptionId);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId));
         log.info("Removed favorite - User: {}, Subscription: {}", userId, subscriptionId);
     }
 
@@ -80,6 +84,7 @@ public class FavoriteCommandService {
                         "즐겨찾기를 찾을 수 없습니다."));
 
         favorite.updateNote(note);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId));
         log.debug("Updated favorite note - User: {}, Subscription: {}", userId, subscriptionId);
 
         return favorite;
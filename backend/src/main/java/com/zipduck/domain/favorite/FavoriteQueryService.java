@@ -1,6 +1,7 @@
 package com.zipduck.domain.favorite;
 
 import com.zipduck.api.exception.ResourceNotFoundException;
+import com.zipduck.infrastructure.datasource.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,12 +20,14 @@ import java.util.List;
 public class FavoriteQueryService {
 
     private final FavoriteRepository favoriteRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     /**
      * Get all favorites for a user
      */
     public List<Favorite> getFavoritesByUserId(Long userId) {
         log.debug("Fetching favorites for user: {}", userId);
+        readYourWritesTracker.pinIfRecentlyWritten(userId);
         return favoriteRepository.findByUserIdWithSubscription(userId);
     }
 
@@ -40,6 +43,7 @@ public class FavoriteQueryService {
      * Check if subscription is favorited by user
      */
     public boolean isFavorited(Long userId, Long subscriptionId) {
+        readYourWritesTracker.pinIfRecentlyWritten(userId);
         return favoriteRepository.existsByUserIdAndSubscriptionId(userId, subscriptionId);
     }
 
@@ -47,6 +51,7 @@ public class FavoriteQueryService {
      * Count user's favorites
      */
     public long countByUserId(Long userId) {
+        readYourWritesTracker.pinIfRecentlyWritten(userId);
         return favoriteRepository.countByUserId(userId);
     }
 }
@@ -0,0 +1,203 @@
+package com.zipduck.domain.region;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary of 시/도 regions with compact integer IDs
+ * FR-001: Location preferences and subscription locations are resolved to the same region IDs,
+ * so a preference match is a single bit test instead of string splitting and {@code contains}.
+ *
+ * Region IDs are persisted ({@code subscriptions.region_id}, {@code user_profiles.location_preference_mask}):
+ * only append new regions, never reorder.
+ *
+ * Preferences may also name a 시/군/구 ("강남구", "분당"); these resolve to their 시/도, so the match is
+ * coarser than the old {@code contains} check. Names shared by several 시/도 (중구, 강서구, 고성군) and
+ * anything else that does not resolve keep the {@link #UNRESOLVED_PREFERENCE} bit, so such a profile is
+ * still treated as having a preference and matches no region through it.
+ */
+public final class RegionDictionary {
+
+    /** Region ID for locations outside the dictionary */
+    public static final int UNKNOWN = 0;
+
+    /** Preference mask meaning "no location preference" */
+    public static final long NO_PREFERENCE = 0L;
+
+    /** Preference bit for entries that name no single region; never set for a region ID */
+    public static final long UNRESOLVED_PREFERENCE = 1L << 63;
+
+    private static final String[] NAMES = {
+            "기타",
+            "서울", "경기", "인천", "부산", "대구", "대전", "광주", "울산", "세종",
+            "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주"
+    };
+
+    /**
+     * Substring patterns checked in order, first match wins
+     * Order follows PublicDataCollector's address parsing ("경기 광주시" resolves to 경기)
+     */
+    private static final String[][] PATTERNS = {
+            {"서울", "서울"}, {"경기", "경기"}, {"인천", "인천"}, {"부산", "부산"}, {"대구", "대구"},
+            {"대전", "대전"}, {"광주", "광주"}, {"울산", "울산"}, {"세종", "세종"}, {"강원", "강원"},
+            {"충북", "충북"}, {"충청북", "충북"}, {"충남", "충남"}, {"충청남", "충남"},
+            {"전북", "전북"}, {"전라북", "전북"}, {"전남", "전남"}, {"전라남", "전남"},
+            {"경북", "경북"}, {"경상북", "경북"}, {"경남", "경남"}, {"경상남", "경남"},
+            {"제주", "제주"}
+    };
+
+    /**
+     * 시/군/구 (and well-known 구 of large cities) per region, without the 시/군/구 suffix
+     * Used only for preferences; subscription addresses always name their 시/도
+     */
+    private static final String[][] DISTRICTS = {
+            {"서울", "종로 중 용산 성동 광진 동대문 중랑 성북 강북 도봉 노원 은평 서대문 마포 양천 강서 구로 금천 "
+                    + "영등포 동작 관악 서초 강남 송파 강동"},
+            {"부산", "중 서 동 영도 부산진 동래 남 북 해운대 사하 금정 강서 연제 수영 사상 기장"},
+            {"대구", "중 동 서 남 북 수성 달서 달성 군위"},
+            {"인천", "중 동 미추홀 연수 남동 부평 계양 서 강화 옹진"},
+            {"광주", "동 서 남 북 광산"},
+            {"대전", "동 중 서 유성 대덕"},
+            {"울산", "중 남 동 북 울주"},
+            {"경기", "수원 장안 권선 팔달 영통 성남 수정 중원 분당 의정부 안양 만안 동안 부천 원미 소사 오정 광명 "
+                    + "평택 동두천 안산 상록 단원 고양 덕양 일산 일산동 일산서 과천 구리 남양주 오산 시흥 군포 의왕 "
+                    + "하남 용인 처인 기흥 수지 파주 이천 안성 김포 화성 양주 포천 여주 연천 가평 양평"},
+            {"강원", "춘천 원주 강릉 동해 태백 속초 삼척 홍천 횡성 영월 평창 정선 철원 화천 양구 인제 고성 양양"},
+            {"충북", "청주 상당 서원 흥덕 청원 충주 제천 보은 옥천 영동 증평 진천 괴산 음성 단양"},
+            {"충남", "천안 동남 서북 공주 보령 아산 서산 논산 계룡 당진 금산 부여 서천 청양 홍성 예산 태안"},
+            {"전북", "전주 완산 덕진 군산 익산 정읍 남원 김제 완주 진안 무주 장수 임실 순창 고창 부안"},
+            {"전남", "목포 여수 순천 나주 광양 담양 곡성 구례 고흥 보성 화순 장흥 강진 해남 영암 무안 함평 영광 "
+                    + "장성 완도 진도 신안"},
+            {"경북", "포항 경주 김천 안동 구미 영주 영천 상주 문경 경산 의성 청송 영양 영덕 청도 고령 성주 칠곡 "
+                    + "예천 봉화 울진 울릉"},
+            {"경남", "창원 의창 성산 마산 마산합포 마산회원 진해 진주 통영 사천 김해 밀양 거제 양산 의령 함안 창녕 "
+                    + "고성 남해 하동 산청 함양 거창 합천"},
+            {"제주", "서귀포"}
+    };
+
+    private static final Map<String, Integer> ID_BY_NAME = new HashMap<>();
+    private static final String[] PATTERN_TEXT = new String[PATTERNS.length];
+    private static final int[] PATTERN_REGION = new int[PATTERNS.length];
+    private static final Map<String, Integer> REGION_BY_DISTRICT = new HashMap<>(); // UNKNOWN if ambiguous
+
+    static {
+        for (int id = 0; id < NAMES.length; id++) {
+            ID_BY_NAME.put(NAMES[id], id);
+        }
+        for (int i = 0; i < PATTERNS.length; i++) {
+            PATTERN_TEXT[i] = PATTERNS[i][0];
+            PATTERN_REGION[i] = ID_BY_NAME.get(PATTERNS[i][1]);
+        }
+        for (String[] districts : DISTRICTS) {
+            int regionId = ID_BY_NAME.get(districts[0]);
+            for (String district : districts[1].split(" ")) {
+                REGION_BY_DISTRICT.merge(district, regionId, (a, b) -> a.equals(b) ? a : UNKNOWN);
+            }
+        }
+    }
+
+    private RegionDictionary() {
+    }
+
+    /**
+     * Resolve a location or address to its region ID
+     *
+     * @return region ID, or {@link #UNKNOWN} if no region matches
+     */
+    public static int regionIdOf(String location) {
+        if (location == null || location.isBlank()) {
+            return UNKNOWN;
+        }
+        Integer exact = ID_BY_NAME.get(location.trim());
+        if (exact != null) {
+            return exact;
+        }
+        for (int i = 0; i < PATTERN_TEXT.length; i++) {
+            if (location.contains(PATTERN_TEXT[i])) {
+                return PATTERN_REGION[i];
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Canonical region name for an address, or {@code null} if no region matches
+     */
+    public static String regionNameOf(String location) {
+        int regionId = regionIdOf(location);
+        return regionId != UNKNOWN ? NAMES[regionId] : null;
+    }
+
+    public static String nameOf(int regionId) {
+        return NAMES[regionId];
+    }
+
+    public static List<String> names() {
+        return List.of(NAMES);
+    }
+
+    /**
+     * Build a preference bitmask from comma-separated location preferences
+     * Entries naming a 시/도 or a 시/군/구 set that region's bit; any other non-blank entry sets
+     * {@link #UNRESOLVED_PREFERENCE}, so it never turns into "no preference"
+     *
+     * @return bitmask with bit {@code regionId} set per preferred region, or {@link #NO_PREFERENCE}
+     */
+    public static long maskOf(String locationPreferences) {
+        if (locationPreferences == null || locationPreferences.isBlank()) {
+            return NO_PREFERENCE;
+        }
+        long mask = NO_PREFERENCE;
+        for (String preference : locationPreferences.split(",")) {
+            if (preference.isBlank()) {
+                continue;
+            }
+            int regionId = preferenceRegionIdOf(preference);
+            if (regionId != UNKNOWN || NAMES[UNKNOWN].equals(preference.trim())) {
+                mask |= bitOf(regionId);
+            } else {
+                mask |= UNRESOLVED_PREFERENCE;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Region of one preference entry: a 시/도 anywhere in it, else the first word naming an unambiguous 시/군/구
+     */
+    private static int preferenceRegionIdOf(String preference) {
+        int regionId = regionIdOf(preference);
+        if (regionId != UNKNOWN) {
+            return regionId;
+        }
+        for (String word : preference.trim().split("\\s+")) {
+            Integer district = REGION_BY_DISTRICT.get(districtStem(word));
+            if (district != null && district != UNKNOWN) {
+                return district;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * "강남구" -> "강남", "수원시" -> "수원"; names without a suffix ("분당") are kept
+     */
+    private static String districtStem(String word) {
+        char last = word.isEmpty() ? 0 : word.charAt(word.length() - 1);
+        boolean suffixed = word.length() >= 2 && (last == '시' || last == '군' || last == '구');
+        return suffixed ? word.substring(0, word.length() - 1) : word;
+    }
+
+    public static long bitOf(int regionId) {
+        return 1L << regionId;
+    }
+
+    /**
+     * Check a region against a preference mask
+     * A profile without preferences matches every region; {@link #UNRESOLVED_PREFERENCE} matches none
+     */
+    public static boolean matches(long preferenceMask, int regionId) {
+        return preferenceMask == NO_PREFERENCE || (preferenceMask & bitOf(regionId)) != 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.zipduck.domain.search;
+
+/**
+ * A type-ahead suggestion: a region name or an active subscription
+ *
+ * @param subscriptionId {@code null} for regions
+ */
+public record AutocompleteSuggestion(Type type, String text, Long subscriptionId) {
+
+    public enum Type {
+        REGION,
+        SUBSCRIPTION
+    }
+
+    public static AutocompleteSuggestion region(String name) {
+        return new AutocompleteSuggestion(Type.REGION, name, null);
+    }
+
+    public static AutocompleteSuggestion subscription(long id, String name) {
+        return new AutocompleteSuggestion(Type.SUBSCRIPTION, name, id);
+    }
+}
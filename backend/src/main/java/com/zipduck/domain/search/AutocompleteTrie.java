@@ -0,0 +1,153 @@
+package com.zipduck.domain.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compressed (radix) trie from keys to suggestions, supporting incremental insert and remove
+ * Each edge holds a run of characters, so memory grows with distinct branch points rather than
+ * total key length. Not thread-safe; {@link SubscriptionAutocompleteService} guards access.
+ */
+final class AutocompleteTrie {
+
+    private final Node root = new Node("");
+
+    void insert(String key, AutocompleteSuggestion value) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.children.put(key.charAt(position), child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // Split the edge at the divergence point
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+            node = child;
+            position += common;
+        }
+        node.values.add(value);
+    }
+
+    void remove(String key, AutocompleteSuggestion value) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return;
+            }
+            path.push(node);
+            node = child;
+            position += child.label.length();
+        }
+        if (!node.values.remove(value)) {
+            return;
+        }
+
+        // Drop empty leaves and re-merge single-child chains so the trie stays compressed
+        while (!path.isEmpty() && node.values.isEmpty()) {
+            Node parent = path.pop();
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.children.size() == 1) {
+                Node only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+            } else {
+                return;
+            }
+            node = parent;
+        }
+    }
+
+    /**
+     * Values under every key starting with {@code prefix}, in key order, deduplicated
+     */
+    List<AutocompleteSuggestion> collect(String prefix, int limit) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (common < child.label.length() && position + common < prefix.length()) {
+                return List.of();
+            }
+            node = child;
+            position += common;
+        }
+
+        Set<AutocompleteSuggestion> collected = new LinkedHashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty() && collected.size() < limit) {
+            Node current = stack.pop();
+            for (AutocompleteSuggestion value : current.values) {
+                collected.add(value);
+                if (collected.size() == limit) {
+                    break;
+                }
+            }
+            // Push in reverse so children are visited in ascending key order
+            List<Node> children = new ArrayList<>(current.children.values());
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+        return new ArrayList<>(collected);
+    }
+
+    /**
+     * Number of nodes including the root; stays minimal while the trie is compressed
+     */
+    int nodeCount() {
+        int count = 0;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            count++;
+            current.children.values().forEach(stack::push);
+        }
+        return count;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private final Set<AutocompleteSuggestion> values = new LinkedHashSet<>(1);
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.zipduck.domain.search;
+
+/**
+ * Hangul syllable decomposition for type-ahead matching
+ *
+ * Syllables are split into compatibility jamo, with compound vowels and final clusters
+ * expanded into their basic letters (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ). That way a syllable still being
+ * composed is a prefix of the finished word: 램 (ㄹㅐㅁ) is a prefix of 래미 (ㄹㅐㅁㅣ).
+ * Characters outside the Hangul syllable block pass through unchanged.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIALS_PER_INITIAL = 21 * 28;
+    private static final int FINALS_PER_MEDIAL = 28;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * Expand every syllable into basic jamo
+     */
+    public static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                jamo.append(INITIALS.charAt(index / MEDIALS_PER_INITIAL))
+                        .append(MEDIALS[(index % MEDIALS_PER_INITIAL) / FINALS_PER_MEDIAL])
+                        .append(FINALS[index % FINALS_PER_MEDIAL]);
+            } else {
+                jamo.append(c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * Replace every syllable with its initial consonant (초성)
+     */
+    public static String initials(String text) {
+        StringBuilder initials = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            initials.append(isSyllable(c) ? INITIALS.charAt((c - SYLLABLE_BASE) / MEDIALS_PER_INITIAL) : c);
+        }
+        return initials.toString();
+    }
+
+    /**
+     * Whether the text is made only of initial consonants, e.g. "ㄱㄴㅇㅍ"
+     */
+    public static boolean isInitialsOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (INITIALS.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
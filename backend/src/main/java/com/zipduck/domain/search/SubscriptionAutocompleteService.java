@@ -0,0 +1,264 @@
+package com.zipduck.domain.search;
+
+import com.zipduck.domain.region.RegionDictionary;
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent;
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent.ChangeType;
+import com.zipduck.domain.subscription.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Type-ahead suggestions over active subscription names and region names
+ *
+ * Two compressed tries answer lookups without touching the database: one keyed by fully
+ * decomposed jamo (so partially typed syllables match) and one keyed by 초성 (so "ㄹㅁㅇ"
+ * finds 래미안). Every word start of a name is a key, so "원베" also finds "래미안 원베일리".
+ *
+ * Region names never change and live in their own pair of tries, so they are collected before
+ * subscriptions instead of competing with them for the limit.
+ *
+ * Local catalog changes are applied incrementally from {@link SubscriptionCatalogChangedEvent};
+ * a periodic full rebuild picks up changes made by other nodes. Changes that arrive while a rebuild
+ * is loading are recorded and replayed on the new tries before they replace the old ones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionAutocompleteService {
+
+    // Built once and never modified, so read without locking
+    private static final AutocompleteTrie REGION_JAMO_TRIE = regionTrie(false);
+    private static final AutocompleteTrie REGION_INITIALS_TRIE = regionTrie(true);
+
+    private final SubscriptionRepository subscriptionRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held from re-reading changed rows until they are applied, so changes land in commit order
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    private AutocompleteTrie jamoTrie;
+    private AutocompleteTrie initialsTrie;
+    private Map<Long, String> indexedNames;
+    private Set<Long> changedDuringRebuild; // guarded by lock; null while no rebuild is running
+    private volatile boolean built;
+
+    /**
+     * Suggestions whose name or region starts with the query at a word boundary
+     * Regions come first, then subscriptions in key order; subscriptions fill what the regions leave of the limit
+     */
+    public List<AutocompleteSuggestion> suggest(String query, int limit) {
+        String normalized = SubscriptionSearchIndex.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        ensureBuilt();
+
+        boolean initialsOnly = HangulJamo.isInitialsOnly(normalized);
+        String key = initialsOnly ? normalized : HangulJamo.decompose(normalized);
+        List<AutocompleteSuggestion> suggestions = new ArrayList<>(
+                (initialsOnly ? REGION_INITIALS_TRIE : REGION_JAMO_TRIE).collect(key, limit));
+        if (suggestions.size() < limit) {
+            lock.readLock().lock();
+            try {
+                suggestions.addAll((initialsOnly ? initialsTrie : jamoTrie).collect(key, limit - suggestions.size()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Apply a committed catalog change to the tries
+     * Rows are re-read and applied under {@code applyLock}: whichever listener runs last reads the state
+     * after both commits, so two changes to the same subscription cannot be applied out of order.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(SubscriptionCatalogChangedEvent event) {
+        if (event.subscriptionIds().isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(event.subscriptionIds());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!built) {
+            return;
+        }
+
+        applyLock.lock();
+        try {
+            // Created/updated rows are re-read; anything no longer active simply is not re-inserted
+            List<SubscriptionSearchRow> rows = event.type() == ChangeType.CREATED || event.type() == ChangeType.UPDATED
+                    ? subscriptionRepository.findActiveSearchRowsByIdIn(event.subscriptionIds())
+                    : List.of();
+
+            lock.writeLock().lock();
+            try {
+                apply(jamoTrie, initialsTrie, indexedNames, event.subscriptionIds(), rows);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            applyLock.unlock();
+        }
+        log.debug("Autocomplete updated for {} {} subscriptions", event.type(), event.subscriptionIds().size());
+    }
+
+    /**
+     * Reconcile with changes committed by other nodes
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<SubscriptionSearchRow> rows;
+        try {
+            rows = subscriptionRepository.findActiveSearchRows();
+        } catch (RuntimeException e) {
+            clearChangedDuringRebuild();
+            throw e;
+        }
+
+        // Build off-lock, then swap so lookups are only blocked for the assignment
+        AutocompleteTrie jamo = new AutocompleteTrie();
+        AutocompleteTrie initials = new AutocompleteTrie();
+        Map<Long, String> names = new HashMap<>(rows.size() * 2);
+        for (SubscriptionSearchRow row : rows) {
+            insert(jamo, initials, names, row);
+        }
+
+        // Replay changes committed since the load began; the swap happens once none are left
+        int replayed = 0;
+        while (true) {
+            Set<Long> changed;
+            lock.writeLock().lock();
+            try {
+                if (changedDuringRebuild.isEmpty()) {
+                    jamoTrie = jamo;
+                    initialsTrie = initials;
+                    indexedNames = names;
+                    changedDuringRebuild = null;
+                    built = true;
+                    break;
+                }
+                changed = changedDuringRebuild;
+                changedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                apply(jamo, initials, names, changed, subscriptionRepository.findActiveSearchRowsByIdIn(changed));
+            } catch (RuntimeException e) {
+                clearChangedDuringRebuild();
+                throw e;
+            }
+            replayed += changed.size();
+        }
+        log.info("Autocomplete rebuilt: {} subscriptions ({} changes replayed) in {}ms",
+                rows.size(), replayed, System.currentTimeMillis() - startTime);
+    }
+
+    private void clearChangedDuringRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the given subscriptions, then insert the rows that are still active
+     */
+    private static void apply(AutocompleteTrie jamo, AutocompleteTrie initials, Map<Long, String> names,
+                              Collection<Long> subscriptionIds, List<SubscriptionSearchRow> rows) {
+        for (Long id : subscriptionIds) {
+            String name = names.remove(id);
+            if (name != null) {
+                forEachKey(name, (jamoKey, initialsKey) -> {
+                    AutocompleteSuggestion suggestion = AutocompleteSuggestion.subscription(id, name);
+                    jamo.remove(jamoKey, suggestion);
+                    initials.remove(initialsKey, suggestion);
+                });
+            }
+        }
+        for (SubscriptionSearchRow row : rows) {
+            insert(jamo, initials, names, row);
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (!built) {
+                rebuild();
+            }
+        }
+    }
+
+    private static AutocompleteTrie regionTrie(boolean initials) {
+        AutocompleteTrie trie = new AutocompleteTrie();
+        for (String region : RegionDictionary.names()) {
+            forEachKey(region, (jamoKey, initialsKey) ->
+                    trie.insert(initials ? initialsKey : jamoKey, AutocompleteSuggestion.region(region)));
+        }
+        return trie;
+    }
+
+    private static void insert(AutocompleteTrie jamo, AutocompleteTrie initials, Map<Long, String> names,
+                               SubscriptionSearchRow row) {
+        if (row.name() == null) {
+            return;
+        }
+        AutocompleteSuggestion suggestion = AutocompleteSuggestion.subscription(row.id(), row.name());
+        names.put(row.id(), row.name());
+        forEachKey(row.name(), (jamoKey, initialsKey) -> {
+            jamo.insert(jamoKey, suggestion);
+            initials.insert(initialsKey, suggestion);
+        });
+    }
+
+    /**
+     * Keys for every word start of a name, in jamo and 초성 form
+     */
+    private static void forEachKey(String name, KeyConsumer consumer) {
+        List<String> words = List.of(name.trim().split("\\s+"));
+        for (int start = 0; start < words.size(); start++) {
+            String key = SubscriptionSearchIndex.normalize(String.join("", words.subList(start, words.size())));
+            if (!key.isEmpty()) {
+                consumer.accept(HangulJamo.decompose(key), HangulJamo.initials(key));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyConsumer {
+        void accept(String jamoKey, String initialsKey);
+    }
+}
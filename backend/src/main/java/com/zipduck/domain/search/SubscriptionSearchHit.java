@@ -0,0 +1,7 @@
+package com.zipduck.domain.search;
+
+/**
+ * A search match with its relevance, higher is better
+ */
+public record SubscriptionSearchHit(long subscriptionId, double relevance) {
+}
@@ -0,0 +1,260 @@
+package com.zipduck.domain.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable bigram inverted index over subscription name, address and location
+ *
+ * Text is normalized (lower-cased, whitespace and punctuation removed) and split into
+ * overlapping character bigrams. Hangul syllables are whole characters, so a 단지명 like
+ * "래미안원베일리" indexes as 래미, 미안, 안원, ... and any contiguous fragment of two or
+ * more syllables finds it, with or without spaces.
+ *
+ * A row matches when it contains every query bigram in some field. Matches are ranked by
+ * where the query occurs: exact name, name prefix, name substring, then address and location.
+ * Rows are also grouped by normalized location for lookups restricted to one location.
+ */
+public final class SubscriptionSearchIndex {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double ADDRESS_WEIGHT = 1.0;
+    private static final double LOCATION_WEIGHT = 1.0;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final long[] ids;
+    private final String[] names;
+    private final String[] addresses;
+    private final String[] locations;
+    private final Map<Integer, int[]> postings;
+    private final Map<String, int[]> locationRows;
+
+    private SubscriptionSearchIndex(long[] ids, String[] names, String[] addresses, String[] locations,
+                                    Map<Integer, int[]> postings, Map<String, int[]> locationRows) {
+        this.ids = ids;
+        this.names = names;
+        this.addresses = addresses;
+        this.locations = locations;
+        this.postings = postings;
+        this.locationRows = locationRows;
+    }
+
+    /**
+     * Build an index from projected rows
+     */
+    public static SubscriptionSearchIndex of(List<SubscriptionSearchRow> rows) {
+        int size = rows.size();
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        String[] addresses = new String[size];
+        String[] locations = new String[size];
+
+        Map<Integer, PostingList> building = new HashMap<>();
+        Map<String, PostingList> byLocation = new HashMap<>();
+        Set<Integer> rowBigrams = new LinkedHashSet<>();
+        for (int row = 0; row < size; row++) {
+            SubscriptionSearchRow source = rows.get(row);
+            ids[row] = source.id();
+            names[row] = normalize(source.name());
+            addresses[row] = normalize(source.address());
+            locations[row] = normalize(source.location());
+
+            rowBigrams.clear();
+            addBigrams(names[row], rowBigrams);
+            addBigrams(addresses[row], rowBigrams);
+            addBigrams(locations[row], rowBigrams);
+            for (Integer bigram : rowBigrams) {
+                building.computeIfAbsent(bigram, key -> new PostingList()).add(row);
+            }
+            byLocation.computeIfAbsent(locations[row], key -> new PostingList()).add(row);
+        }
+
+        // Rows were appended in ascending order, so every list is already sorted
+        Map<Integer, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((bigram, list) -> postings.put(bigram, list.toArray()));
+        Map<String, int[]> locationRows = new HashMap<>(byLocation.size() * 2);
+        byLocation.forEach((location, list) -> locationRows.put(location, list.toArray()));
+        return new SubscriptionSearchIndex(ids, names, addresses, locations, postings, locationRows);
+    }
+
+    public static SubscriptionSearchIndex empty() {
+        return of(List.of());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Search the index, best match first (ties by subscription ID)
+     *
+     * @return up to {@code limit} hits; empty if the normalized query is shorter than {@link #MIN_QUERY_LENGTH}
+     */
+    public List<SubscriptionSearchHit> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            return List.of();
+        }
+
+        Set<Integer> queryBigrams = new LinkedHashSet<>();
+        addBigrams(normalized, queryBigrams);
+        int[] candidates = intersect(queryBigrams);
+
+        List<SubscriptionSearchHit> hits = new ArrayList<>(candidates.length);
+        for (int row : candidates) {
+            double relevance = NAME_WEIGHT * fieldScore(names[row], normalized, queryBigrams)
+                    + ADDRESS_WEIGHT * fieldScore(addresses[row], normalized, queryBigrams)
+                    + LOCATION_WEIGHT * fieldScore(locations[row], normalized, queryBigrams);
+            hits.add(new SubscriptionSearchHit(ids[row], relevance));
+        }
+        hits.sort(Comparator.comparingDouble(SubscriptionSearchHit::relevance).reversed()
+                .thenComparingLong(SubscriptionSearchHit::subscriptionId));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Every row in the location whose name contains the query, best name match first (ties by subscription ID)
+     * Location and name are compared normalized. Queries shorter than {@link #MIN_QUERY_LENGTH} have no
+     * bigrams to look up, so they scan the location's rows instead of returning nothing.
+     */
+    public List<SubscriptionSearchHit> searchNameInLocation(String name, String location) {
+        String normalized = normalize(name);
+        int[] candidates = locationRows.getOrDefault(normalize(location), NO_ROWS);
+
+        Set<Integer> queryBigrams = new LinkedHashSet<>();
+        addBigrams(normalized, queryBigrams);
+        if (!queryBigrams.isEmpty() && candidates.length > 0) {
+            candidates = intersect(candidates, intersect(queryBigrams));
+        }
+
+        List<SubscriptionSearchHit> hits = new ArrayList<>();
+        for (int row : candidates) {
+            if (names[row].contains(normalized)) {
+                hits.add(new SubscriptionSearchHit(ids[row], fieldScore(names[row], normalized, queryBigrams)));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(SubscriptionSearchHit::relevance).reversed()
+                .thenComparingLong(SubscriptionSearchHit::subscriptionId));
+        return hits;
+    }
+
+    /**
+     * Lower-case letters and digits only, so spacing and punctuation never affect matching
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static void addBigrams(String text, Set<Integer> bigrams) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            bigrams.add(bigram(text.charAt(i), text.charAt(i + 1)));
+        }
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * Rows containing every bigram, walking the shortest posting list first
+     */
+    private int[] intersect(Set<Integer> bigrams) {
+        List<int[]> lists = new ArrayList<>(bigrams.size());
+        for (Integer bigram : bigrams) {
+            int[] list = postings.get(bigram);
+            if (list == null) {
+                return NO_ROWS;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int j = 0;
+        for (int row : a) {
+            j = Math.max(j, lowerBound(b, j, row));
+            if (j == b.length) {
+                break;
+            }
+            if (b[j] == row) {
+                result[count++] = row;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int lowerBound(int[] sorted, int from, int value) {
+        int index = Arrays.binarySearch(sorted, from, sorted.length, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 1.0 exact, 0.8 prefix, 0.6 substring, otherwise up to 0.4 by bigram coverage
+     */
+    private static double fieldScore(String field, String query, Set<Integer> queryBigrams) {
+        if (field.isEmpty()) {
+            return 0;
+        }
+        if (field.equals(query)) {
+            return 1.0;
+        }
+        if (field.startsWith(query)) {
+            return 0.8;
+        }
+        if (field.contains(query)) {
+            return 0.6;
+        }
+        Set<Integer> fieldBigrams = new LinkedHashSet<>();
+        addBigrams(field, fieldBigrams);
+        int matched = 0;
+        for (Integer bigram : queryBigrams) {
+            if (fieldBigrams.contains(bigram)) {
+                matched++;
+            }
+        }
+        return 0.4 * matched / queryBigrams.size();
+    }
+
+    private static final class PostingList {
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.zipduck.domain.search;
+
+/**
+ * Searchable text columns of an active subscription
+ */
+public record SubscriptionSearchRow(Long id, String name, String address, String location) {
+}
@@ -0,0 +1,81 @@
+package com.zipduck.domain.search;
+
+import com.zipduck.domain.subscription.SubscriptionCatalog;
+import com.zipduck.domain.subscription.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Full-text search over active subscription names, addresses and locations
+ * Backed by an in-process {@link SubscriptionSearchIndex}, rebuilt whenever the subscription
+ * catalog version changes. While another thread rebuilds, searches use the previous index.
+ * The index loads its own rows, so it never waits for the catalog's first build: while the catalog is
+ * cold the index is built once and kept until the catalog is warm and reports a version.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionSearchService {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionCatalog subscriptionCatalog;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile SubscriptionSearchIndex index;
+    private volatile String indexedVersion;
+
+    /**
+     * Search active subscriptions, most relevant first
+     *
+     * @return up to {@code limit} hits; empty for queries shorter than two letters or digits
+     */
+    public List<SubscriptionSearchHit> search(String query, int limit) {
+        return current().search(query, limit);
+    }
+
+    /**
+     * Active subscriptions in the location whose name contains the given name, best match first
+     * Not limited, so a location filter never drops a match; works for names of any length
+     */
+    public List<SubscriptionSearchHit> searchNameInLocation(String name, String location) {
+        return current().searchNameInLocation(name, location);
+    }
+
+    private SubscriptionSearchIndex current() {
+        String version = subscriptionCatalog.versionIfWarm();
+        SubscriptionSearchIndex current = index;
+        if (current != null && (version == null || version.equals(indexedVersion))) {
+            return current;
+        }
+
+        if (current == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return current;
+        }
+
+        try {
+            if (index == null || (version != null && !Objects.equals(version, indexedVersion))) {
+                rebuild(version);
+            }
+            return index;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuild(String version) {
+        long startTime = System.currentTimeMillis();
+        List<SubscriptionSearchRow> rows = subscriptionRepository.findActiveSearchRows();
+        index = SubscriptionSearchIndex.of(rows);
+        indexedVersion = version;
+        log.info("Subscription search index rebuilt: {} subscriptions in {}ms",
+                rows.size(), System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,8 @@
+package com.zipduck.domain.subscription;
+
+/**
+ * Stored fingerprint of a public data subscription, for diffing a collection run
+ * {@code sourceFingerprint} is null for rows written before fingerprints existed
+ */
+public record PublicDataFingerprint(Long id, String publicDataId, String sourceFingerprint) {
+}
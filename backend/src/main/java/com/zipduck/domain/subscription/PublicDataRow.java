@@ -0,0 +1,66 @@
+package com.zipduck.domain.subscription;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+/**
+ * The columns of a subscription that the public data collector owns
+ * Hashed into {@code Subscription.sourceFingerprint} so a fetched listing is diffed against the
+ * stored row by one column; eligibility criteria, merge state and activation are managed
+ * elsewhere and never overwritten by collection.
+ */
+public record PublicDataRow(
+        String publicDataId,
+        String name,
+        String location,
+        String address,
+        Subscription.HousingType housingType,
+        Long minPrice,
+        Long maxPrice,
+        Integer supplyCount,
+        LocalDate applicationStartDate,
+        LocalDate applicationEndDate
+) {
+
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final String NULL_FIELD = "\u0000";
+
+    public static PublicDataRow of(Subscription subscription) {
+        return new PublicDataRow(subscription.getPublicDataId(),
+                subscription.getName(), subscription.getLocation(), subscription.getAddress(),
+                subscription.getHousingType(), subscription.getMinPrice(), subscription.getMaxPrice(),
+                subscription.getSupplyCount(), subscription.getApplicationStartDate(),
+                subscription.getApplicationEndDate());
+    }
+
+    /**
+     * Hex SHA-256 of the fields in declaration order
+     * Stable across runs and nodes: separators and null markers keep distinct rows from colliding
+     */
+    public String fingerprint() {
+        StringBuilder canonical = new StringBuilder(256);
+        append(canonical, publicDataId);
+        append(canonical, name);
+        append(canonical, location);
+        append(canonical, address);
+        append(canonical, housingType);
+        append(canonical, minPrice);
+        append(canonical, maxPrice);
+        append(canonical, supplyCount);
+        append(canonical, applicationStartDate);
+        append(canonical, applicationEndDate);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void append(StringBuilder canonical, Object value) {
+        canonical.append(value != null ? value.toString() : NULL_FIELD).append(FIELD_SEPARATOR);
+    }
+}
@@ -0,0 +1,7 @@
+package com.zipduck.domain.subscription;
+
+/**
+ * Outcome of a bulk public data upsert
+ */
+public record PublicDataUpsertResult(int created, int updated, int unchanged) {
+}
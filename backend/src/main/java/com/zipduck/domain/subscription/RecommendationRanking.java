@@ -0,0 +1,42 @@
+package com.zipduck.domain.subscription;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranked recommendation IDs shared by every profile with the same eligibility signature
+ * Stored in the Redis {@code eligibility} cache, so it stays a plain serializable bean
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationRanking {
+
+    private int eligibleCount;
+    private ArrayList<Long> rankedIds; // Best first, at most the cache depth
+
+    public static RecommendationRanking of(int eligibleCount, List<Long> rankedIds) {
+        return new RecommendationRanking(eligibleCount, new ArrayList<>(rankedIds));
+    }
+
+    /**
+     * Copy keeping at most the best {@code depth} IDs
+     */
+    public RecommendationRanking truncate(int depth) {
+        if (rankedIds.size() <= depth) {
+            return this;
+        }
+        return of(eligibleCount, rankedIds.subList(0, depth));
+    }
+
+    /**
+     * Whether the ranking holds every row up to {@code to}
+     */
+    public boolean covers(int to) {
+        return to <= rankedIds.size() || rankedIds.size() >= eligibleCount;
+    }
+}
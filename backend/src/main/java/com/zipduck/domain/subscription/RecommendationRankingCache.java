@@ -0,0 +1,57 @@
+package com.zipduck.domain.subscription;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared cache of recommendation rankings keyed by eligibility signature
+ * Keys embed the catalog content version, so a catalog change (collector run, PDF upload,
+ * expiry job) moves readers to new keys and old entries age out with the cache TTL.
+ *
+ * Cache failures are logged and treated as misses - recommendations never depend on Redis.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationRankingCache {
+
+    private static final String CACHE_NAME = "eligibility";
+    private static final String KEY_PREFIX = "recommendations:";
+
+    private final CacheManager cacheManager;
+
+    @Value("${app.recommendation.cache-depth:200}")
+    private int cacheDepth;
+
+    /**
+     * Number of ranked IDs kept per entry
+     */
+    public int depth() {
+        return cacheDepth;
+    }
+
+    public RecommendationRanking get(String signature) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            return cache != null ? cache.get(KEY_PREFIX + signature, RecommendationRanking.class) : null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read recommendation ranking from cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(String signature, RecommendationRanking ranking) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(KEY_PREFIX + signature, ranking);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache recommendation ranking: {}", e.getMessage());
+        }
+    }
+}
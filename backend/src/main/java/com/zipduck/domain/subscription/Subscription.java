@@ -1,6 +1,7 @@
 package com.zipduck.domain.subscription;
 
 import com.zipduck.domain.BaseEntity;
+import com.zipduck.domain.region.RegionDictionary;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -28,6 +29,8 @@ public class Subscription extends BaseEntity {
     @Column(nullable = false)
     private String location; // 지역 (서울, 경기 등)
 
+    private Integer regionId; // RegionDictionary ID derived from location
+
     @Column(length = 1000)
     private String address; // 상세 주소
 
@@ -41,6 +44,8 @@ public class Subscription extends BaseEntity {
     @Column(nullable = false)
     private Long maxPrice; // 최고가 (KRW)
 
+    private Integer supplyCount; // 공급세대수
+
     // Eligibility criteria
     private Integer minAge; // 최소 연령
     private Integer maxAge; // 최대 연령
@@ -73,9 +78,12 @@ public class Subscription extends BaseEntity {
     @Builder.Default
     private Boolean isMerged = false; // FR-029: Indicates if enhanced by multiple sources
 
-    @Column(length = 500)
+    @Column(length = 500, unique = true)
     private String publicDataId; // External ID from 공공데이터포털
 
+    @Column(length = 64)
+    private String sourceFingerprint; // Hash of collector-owned fields (PublicDataRow)
+
     @Column(length = 500)
     private String pdfDocumentId; // Reference to uploaded PDF document
 
@@ -130,6 +138,14 @@ public class Subscription extends BaseEntity {
         this.pdfDocumentId = pdfDocumentId;
     }
 
+    /**
+     * Record the fingerprint of the collector-owned fields this row was written with
+     * FR-028
+     */
+    public void updateSourceFingerprint(String sourceFingerprint) {
+        this.sourceFingerprint = sourceFingerprint;
+    }
+
     /**
      * Deactivate subscription (FR-030)
      */
@@ -137,6 +153,20 @@ public class Subscription extends BaseEntity {
         this.isActive = false;
     }
 
+    /**
+     * Region ID for location matching
+     * Falls back to resolving the location for rows not yet persisted with a region
+     */
+    public int getRegionId() {
+        return regionId != null ? regionId : RegionDictionary.regionIdOf(location);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void assignRegion() {
+        this.regionId = RegionDictionary.regionIdOf(location);
+    }
+
     /**
      * Check if subscription is expired
      */
@@ -0,0 +1,98 @@
+package com.zipduck.domain.subscription;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the subscriptions_archive cold table
+ * FR-030: Long-expired rows are moved out of the hot subscriptions table and stay readable by ID
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionArchiveRepository {
+
+    private static final String COLUMNS =
+            "id, name, location, region_id, address, housing_type, min_price, max_price, supply_count, " +
+            "min_age, max_age, min_income, max_income, min_household_members, max_household_members, " +
+            "max_housing_owned, special_qualifications, preference_categories, " +
+            "application_start_date, application_end_date, data_source, is_merged, public_data_id, " +
+            "source_fingerprint, pdf_document_id, is_active, detail_url, created_at, updated_at";
+
+    // Favorites and PDF analysis results keep a foreign key to the hot row, so referenced rows stay put
+    private static final String SELECT_CANDIDATES =
+            "SELECT s.id FROM subscriptions s " +
+            "WHERE s.is_active = FALSE AND s.application_end_date < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM favorites f WHERE f.subscription_id = s.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM pdf_analysis_results p WHERE p.subscription_id = s.id) " +
+            "ORDER BY s.id LIMIT ? FOR UPDATE";
+
+    private static final RowMapper<Subscription> ROW_MAPPER = (rs, rowNum) -> Subscription.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .location(rs.getString("location"))
+            .regionId(rs.getObject("region_id", Integer.class))
+            .address(rs.getString("address"))
+            .housingType(Subscription.HousingType.valueOf(rs.getString("housing_type")))
+            .minPrice(rs.getLong("min_price"))
+            .maxPrice(rs.getLong("max_price"))
+            .supplyCount(rs.getObject("supply_count", Integer.class))
+            .minAge(rs.getObject("min_age", Integer.class))
+            .maxAge(rs.getObject("max_age", Integer.class))
+            .minIncome(rs.getObject("min_income", Long.class))
+            .maxIncome(rs.getObject("max_income", Long.class))
+            .minHouseholdMembers(rs.getObject("min_household_members", Integer.class))
+            .maxHouseholdMembers(rs.getObject("max_household_members", Integer.class))
+            .maxHousingOwned(rs.getObject("max_housing_owned", Integer.class))
+            .specialQualifications(rs.getString("special_qualifications"))
+            .preferenceCategories(rs.getString("preference_categories"))
+            .applicationStartDate(rs.getObject("application_start_date", LocalDate.class))
+            .applicationEndDate(rs.getObject("application_end_date", LocalDate.class))
+            .dataSource(Subscription.DataSource.valueOf(rs.getString("data_source")))
+            .isMerged(rs.getBoolean("is_merged"))
+            .publicDataId(rs.getString("public_data_id"))
+            .sourceFingerprint(rs.getString("source_fingerprint"))
+            .pdfDocumentId(rs.getString("pdf_document_id"))
+            .isActive(rs.getBoolean("is_active"))
+            .detailUrl(rs.getString("detail_url"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Move up to {@code limit} inactive subscriptions that ended before {@code cutoff} into the archive
+     * Returns the moved IDs. Call inside a transaction so the copy and the delete commit together.
+     */
+    public List<Long> archiveChunk(LocalDate cutoff, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_CANDIDATES, Long.class, cutoff, limit);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        namedParameterJdbcTemplate.update(
+                "INSERT INTO subscriptions_archive (" + COLUMNS + ", archived_at) " +
+                "SELECT " + COLUMNS + ", :now FROM subscriptions WHERE id IN (:ids)", params);
+        namedParameterJdbcTemplate.update("DELETE FROM subscriptions WHERE id IN (:ids)", params);
+        return ids;
+    }
+
+    /**
+     * Archived subscription by ID, as a detached read-only entity
+     */
+    public Optional<Subscription> findById(Long id) {
+        List<Subscription> rows = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM subscriptions_archive WHERE id = ?", ROW_MAPPER, id);
+        return rows.stream().findFirst();
+    }
+}
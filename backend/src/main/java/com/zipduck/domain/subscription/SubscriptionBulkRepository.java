@@ -0,0 +1,134 @@
+package com.zipduck.domain.subscription;
+
+import com.zipduck.domain.region.RegionDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based JDBC writes for the subscriptions table
+ * Used where per-entity JPA writes cost a round trip per row (IDENTITY keys disable insert batching,
+ * load-then-save issues one UPDATE per entity)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionBulkRepository {
+
+    // 25 parameters per row keeps a chunk well under MySQL's 65,535 placeholder limit
+    static final int CHUNK_SIZE = 500;
+
+    private static final String UPSERT_COLUMNS =
+            "INSERT INTO subscriptions (name, location, region_id, address, housing_type, min_price, max_price, " +
+            "supply_count, min_age, max_age, min_income, max_income, min_household_members, max_household_members, " +
+            "max_housing_owned, application_start_date, application_end_date, data_source, is_merged, " +
+            "public_data_id, source_fingerprint, is_active, detail_url, created_at, updated_at) VALUES ";
+
+    private static final String UPSERT_ROW =
+            "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Only collector-owned columns change on conflict (see PublicDataRow)
+    private static final String UPSERT_ON_DUPLICATE =
+            " ON DUPLICATE KEY UPDATE name = VALUES(name), location = VALUES(location), " +
+            "region_id = VALUES(region_id), address = VALUES(address), housing_type = VALUES(housing_type), " +
+            "min_price = VALUES(min_price), max_price = VALUES(max_price), supply_count = VALUES(supply_count), " +
+            "application_start_date = VALUES(application_start_date), " +
+            "application_end_date = VALUES(application_end_date), " +
+            "source_fingerprint = VALUES(source_fingerprint), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Insert or update subscriptions keyed by public_data_id, one multi-row statement per chunk
+     */
+    public void upsertByPublicDataId(List<Subscription> subscriptions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < subscriptions.size(); from += CHUNK_SIZE) {
+            List<Subscription> chunk = subscriptions.subList(from, Math.min(from + CHUNK_SIZE, subscriptions.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_COLUMNS);
+            List<Object> args = new ArrayList<>(chunk.size() * 25);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+                addRow(args, chunk.get(i), now);
+            }
+            sql.append(UPSERT_ON_DUPLICATE);
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * Subscription IDs by public_data_id, one query per chunk
+     */
+    public Map<String, Long> findIdsByPublicDataIds(Collection<String> publicDataIds) {
+        List<String> ids = List.copyOf(publicDataIds);
+        Map<String, Long> result = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids",
+                    ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, public_data_id FROM subscriptions WHERE public_data_id IN (:ids)", params,
+                    rs -> {
+                        result.put(rs.getString("public_data_id"), rs.getLong("id"));
+                    });
+        }
+        return result;
+    }
+
+    /**
+     * Deactivate up to {@code limit} expired subscriptions and return their IDs
+     * Locks the chosen rows (SELECT ... FOR UPDATE) so the returned IDs are exactly the rows flipped.
+     * Call inside a transaction; keep {@code limit} small so each chunk holds its locks briefly.
+     */
+    public List<Long> deactivateExpiredChunk(LocalDate today, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM subscriptions WHERE is_active = TRUE AND application_end_date < ? " +
+                "ORDER BY application_end_date, id LIMIT ? FOR UPDATE",
+                Long.class, today, limit);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.update(
+                "UPDATE subscriptions SET is_active = FALSE, updated_at = :now WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids).addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+        return ids;
+    }
+
+    private static void addRow(List<Object> args, Subscription subscription, Timestamp now) {
+        args.add(subscription.getName());
+        args.add(subscription.getLocation());
+        args.add(RegionDictionary.regionIdOf(subscription.getLocation()));
+        args.add(subscription.getAddress());
+        args.add(subscription.getHousingType().name());
+        args.add(subscription.getMinPrice());
+        args.add(subscription.getMaxPrice());
+        args.add(subscription.getSupplyCount());
+        args.add(subscription.getMinAge());
+        args.add(subscription.getMaxAge());
+        args.add(subscription.getMinIncome());
+        args.add(subscription.getMaxIncome());
+        args.add(subscription.getMinHouseholdMembers());
+        args.add(subscription.getMaxHouseholdMembers());
+        args.add(subscription.getMaxHousingOwned());
+        args.add(subscription.getApplicationStartDate());
+        args.add(subscription.getApplicationEndDate());
+        args.add(subscription.getDataSource().name());
+        args.add(subscription.getIsMerged());
+        args.add(subscription.getPublicDataId());
+        args.add(subscription.getSourceFingerprint());
+        args.add(subscription.getIsActive());
+        args.add(subscription.getDetailUrl());
+        args.add(now);
+        args.add(now);
+    }
+}
@@ -0,0 +1,191 @@
+package com.zipduck.domain.subscription;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process read model of the active subscription catalog
+ * SC-006: Recommendation requests read this snapshot instead of loading every active entity
+ *
+ * The first snapshot is built in the background at startup; until then recommendation
+ * requests use a SQL pre-filter. Afterwards the snapshot is rebuilt lazily on the first read
+ * after a change. Local changes are signalled by {@link SubscriptionCatalogChangedEvent};
+ * changes made by other nodes are picked up by a periodic stamp probe.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionCatalog {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionCatalogRevisionRepository revisionRepository;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile SubscriptionCatalogSnapshot snapshot;
+    private volatile SubscriptionCatalogStamp stamp;
+    private volatile boolean stale = true;
+
+    /**
+     * Get the current catalog snapshot, rebuilding it if it is known to be stale
+     * While another thread rebuilds, readers keep using the previous snapshot
+     */
+    public SubscriptionCatalogSnapshot current() {
+        SubscriptionCatalogSnapshot current = snapshot;
+        if (current != null && !stale) {
+            return current;
+        }
+
+        if (current == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return current;
+        }
+
+        try {
+            if (snapshot == null || stale) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Get the current snapshot without ever waiting for the first build
+     * Returns {@code null} while the catalog is cold so callers can fall back to SQL filtering
+     */
+    public SubscriptionCatalogSnapshot currentIfWarm() {
+        return snapshot != null ? current() : null;
+    }
+
+    /**
+     * Build the first snapshot off the request path once the application is ready
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    /**
+     * Version of the subscriptions table behind the current snapshot
+     * Changes whenever any subscription is created, updated, deactivated or deleted,
+     * including columns the snapshot does not hold - usable as a cache key component
+     */
+    public String version() {
+        current();
+        return formatVersion(stamp);
+    }
+
+    /**
+     * Like {@link #version()}, but never waits for the first build
+     * Returns {@code null} while the catalog is cold so request paths can skip version-keyed caches
+     */
+    public String versionIfWarm() {
+        return currentIfWarm() != null ? formatVersion(stamp) : null;
+    }
+
+    private static String formatVersion(SubscriptionCatalogStamp current) {
+        if (current == null) {
+            return "0";
+        }
+        return current.totalCount() + "-" + current.activeCount() + "-" + current.maxId() + "-"
+                + (current.lastUpdatedAt() != null ? current.lastUpdatedAt() : "") + "-"
+                + (current.revision() != null ? current.revision() : "");
+    }
+
+    /**
+     * Get a snapshot that includes every change signalled so far, waiting for a rebuild in progress
+     * For background writers that must not act on a superseded snapshot
+     */
+    public SubscriptionCatalogSnapshot awaitCurrent() {
+        rebuildLock.lock();
+        try {
+            if (snapshot == null || stale) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Like {@link #awaitCurrent()}, but also rebuilds when the stamp read now differs from the snapshot's
+     * Catches changes committed by other nodes since the last probe. Call inside a read-write
+     * transaction so the stamp is read from the primary.
+     */
+    public SubscriptionCatalogSnapshot awaitLatest() {
+        rebuildLock.lock();
+        try {
+            if (snapshot == null || stale || !Objects.equals(readStamp(), stamp)) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Mark the snapshot stale once the change is committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(SubscriptionCatalogChangedEvent event) {
+        log.debug("Subscription catalog changed ({} {}), marking snapshot stale",
+                event.type(), event.subscriptionIds().size());
+        stale = true;
+    }
+
+    /**
+     * Detect changes committed by other nodes
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.probe-interval-ms:30000}")
+    public void probeForChanges() {
+        if (snapshot == null) {
+            // Startup warm-up failed or has not run; retry here rather than on a request thread
+            current();
+            return;
+        }
+        SubscriptionCatalogStamp latest = readStamp();
+        if (!Objects.equals(latest, stamp)) {
+            log.debug("Subscription catalog stamp changed: {} -> {}", stamp, latest);
+            stale = true;
+        }
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        // Clear the flag first so a change committed during the load triggers another rebuild
+        stale = false;
+        SubscriptionCatalogStamp latestStamp = readStamp();
+        List<SubscriptionCatalogRow> rows = subscriptionRepository.findActiveCatalogRows();
+
+        snapshot = SubscriptionCatalogSnapshot.of(rows);
+        stamp = latestStamp;
+        log.info("Subscription catalog rebuilt: {} active subscriptions in {}ms",
+                rows.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Change counter first, then the aggregates: a write committed in between shows up in the
+     * aggregates now and in the counter on the next probe, costing at most one extra rebuild
+     */
+    private SubscriptionCatalogStamp readStamp() {
+        Long revision = revisionRepository.findRevision().orElse(0L);
+        return subscriptionRepository.findCatalogStamp().withRevision(revision);
+    }
+}
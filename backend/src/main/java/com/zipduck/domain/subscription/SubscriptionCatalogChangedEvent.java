@@ -0,0 +1,25 @@
+package com.zipduck.domain.subscription;
+
+import java.util.List;
+
+/**
+ * Published whenever the set of active subscriptions (or their criteria) changes
+ * Consumed after commit by in-memory read models that must drop or reload rows
+ */
+public record SubscriptionCatalogChangedEvent(ChangeType type, List<Long> subscriptionIds) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DEACTIVATED,
+        DELETED
+    }
+
+    public static SubscriptionCatalogChangedEvent of(ChangeType type, Long subscriptionId) {
+        return new SubscriptionCatalogChangedEvent(type, List.of(subscriptionId));
+    }
+
+    public static SubscriptionCatalogChangedEvent of(ChangeType type, List<Long> subscriptionIds) {
+        return new SubscriptionCatalogChangedEvent(type, List.copyOf(subscriptionIds));
+    }
+}
@@ -0,0 +1,28 @@
+package com.zipduck.domain.subscription;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row change counter of the subscriptions table
+ * Incremented with every catalog write; part of {@link SubscriptionCatalogStamp}
+ */
+@Entity
+@Table(name = "subscription_catalog_revision")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SubscriptionCatalogRevision {
+
+    static final int ROW_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long revision;
+}
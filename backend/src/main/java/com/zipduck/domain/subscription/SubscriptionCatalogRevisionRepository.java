@@ -0,0 +1,26 @@
+package com.zipduck.domain.subscription;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+/**
+ * Repository for the subscription catalog change counter
+ */
+public interface SubscriptionCatalogRevisionRepository extends JpaRepository<SubscriptionCatalogRevision, Integer> {
+
+    @Query("SELECT r.revision FROM SubscriptionCatalogRevision r WHERE r.id = " + SubscriptionCatalogRevision.ROW_ID)
+    Optional<Long> findRevision();
+
+    /**
+     * Increment the counter in the caller's transaction, creating the row if it is missing
+     * The row stays locked until commit, so concurrent catalog writes bump it one after another
+     */
+    @Modifying
+    @Query(value = "INSERT INTO subscription_catalog_revision (id, revision) VALUES (" + SubscriptionCatalogRevision.ROW_ID + ", 1) " +
+                   "ON DUPLICATE KEY UPDATE revision = revision + 1",
+           nativeQuery = true)
+    void increment();
+}
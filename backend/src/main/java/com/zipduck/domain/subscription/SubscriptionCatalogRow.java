@@ -0,0 +1,20 @@
+package com.zipduck.domain.subscription;
+
+/**
+ * Read-only projection of the columns needed for eligibility filtering
+ * Selected directly by JPQL constructor expression - never a managed entity
+ */
+public record SubscriptionCatalogRow(
+        Long id,
+        Integer minAge,
+        Integer maxAge,
+        Long minIncome,
+        Long maxIncome,
+        Integer minHouseholdMembers,
+        Integer maxHouseholdMembers,
+        Integer maxHousingOwned,
+        Integer regionId,
+        String location,
+        Subscription.DataSource dataSource
+) {
+}
@@ -0,0 +1,174 @@
+package com.zipduck.domain.subscription;
+
+import com.zipduck.domain.eligibility.EligibilityBitmapIndex;
+import com.zipduck.domain.eligibility.EligibilitySignature;
+import com.zipduck.domain.region.RegionDictionary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar view of the active subscription catalog
+ * SC-006: Eligibility filtering runs over primitive arrays instead of hydrated entities
+ *
+ * Row i of every array describes the same subscription. Missing (null) bounds are
+ * encoded as sentinels so an unbounded minimum always passes a {@code >=} check and
+ * an unbounded maximum always passes a {@code <=} check.
+ */
+public final class SubscriptionCatalogSnapshot {
+
+    public static final int UNBOUNDED_MIN_INT = Integer.MIN_VALUE;
+    public static final int UNBOUNDED_MAX_INT = Integer.MAX_VALUE;
+    public static final long UNBOUNDED_MIN_LONG = Long.MIN_VALUE;
+    public static final long UNBOUNDED_MAX_LONG = Long.MAX_VALUE;
+
+    private static final Subscription.DataSource[] DATA_SOURCES = Subscription.DataSource.values();
+
+    private final long[] ids;
+    private final int[] minAge;
+    private final int[] maxAge;
+    private final long[] minIncome;
+    private final long[] maxIncome;
+    private final int[] minHousehold;
+    private final int[] maxHousehold;
+    private final int[] maxHousingOwned;
+    private final int[] regionId;
+    private final byte[] dataSource;
+    private final Map<Long, Integer> rowById;
+    private EligibilityBitmapIndex bitmapIndex;
+    private EligibilitySignature signature;
+
+    private SubscriptionCatalogSnapshot(int size) {
+        this.ids = new long[size];
+        this.minAge = new int[size];
+        this.maxAge = new int[size];
+        this.minIncome = new long[size];
+        this.maxIncome = new long[size];
+        this.minHousehold = new int[size];
+        this.maxHousehold = new int[size];
+        this.maxHousingOwned = new int[size];
+        this.regionId = new int[size];
+        this.dataSource = new byte[size];
+        this.rowById = new HashMap<>(size * 2);
+    }
+
+    /**
+     * Build a snapshot from projected catalog rows
+     */
+    public static SubscriptionCatalogSnapshot of(List<SubscriptionCatalogRow> rows) {
+        SubscriptionCatalogSnapshot snapshot = new SubscriptionCatalogSnapshot(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            SubscriptionCatalogRow row = rows.get(i);
+            snapshot.ids[i] = row.id();
+            snapshot.minAge[i] = row.minAge() != null ? row.minAge() : UNBOUNDED_MIN_INT;
+            snapshot.maxAge[i] = row.maxAge() != null ? row.maxAge() : UNBOUNDED_MAX_INT;
+            snapshot.minIncome[i] = row.minIncome() != null ? row.minIncome() : UNBOUNDED_MIN_LONG;
+            snapshot.maxIncome[i] = row.maxIncome() != null ? row.maxIncome() : UNBOUNDED_MAX_LONG;
+            snapshot.minHousehold[i] = row.minHouseholdMembers() != null ? row.minHouseholdMembers() : UNBOUNDED_MIN_INT;
+            snapshot.maxHousehold[i] = row.maxHouseholdMembers() != null ? row.maxHouseholdMembers() : UNBOUNDED_MAX_INT;
+            snapshot.maxHousingOwned[i] = row.maxHousingOwned() != null ? row.maxHousingOwned() : UNBOUNDED_MAX_INT;
+            snapshot.regionId[i] = row.regionId() != null
+                    ? row.regionId() : RegionDictionary.regionIdOf(row.location());
+            snapshot.dataSource[i] = (byte) row.dataSource().ordinal();
+            snapshot.rowById.put(row.id(), i);
+        }
+        snapshot.bitmapIndex = EligibilityBitmapIndex.build(snapshot);
+        snapshot.signature = EligibilitySignature.build(snapshot);
+        return snapshot;
+    }
+
+    public static SubscriptionCatalogSnapshot empty() {
+        return of(List.of());
+    }
+
+    /**
+     * Bitmap pre-filter built over this snapshot's eligibility bounds
+     */
+    public EligibilityBitmapIndex bitmapIndex() {
+        return bitmapIndex;
+    }
+
+    /**
+     * Profile signature and content version used to share rankings across users
+     */
+    public EligibilitySignature signature() {
+        return signature;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public int minAge(int row) {
+        return minAge[row];
+    }
+
+    public int maxAge(int row) {
+        return maxAge[row];
+    }
+
+    public long minIncome(int row) {
+        return minIncome[row];
+    }
+
+    public long maxIncome(int row) {
+        return maxIncome[row];
+    }
+
+    public int minHousehold(int row) {
+        return minHousehold[row];
+    }
+
+    public int maxHousehold(int row) {
+        return maxHousehold[row];
+    }
+
+    public int maxHousingOwned(int row) {
+        return maxHousingOwned[row];
+    }
+
+    public boolean hasMaxHousingOwned(int row) {
+        return maxHousingOwned[row] != UNBOUNDED_MAX_INT;
+    }
+
+    public boolean hasIncomeRange(int row) {
+        return minIncome[row] != UNBOUNDED_MIN_LONG && maxIncome[row] != UNBOUNDED_MAX_LONG;
+    }
+
+    public int regionId(int row) {
+        return regionId[row];
+    }
+
+    public Subscription.DataSource dataSource(int row) {
+        return DATA_SOURCES[dataSource[row]];
+    }
+
+    public boolean isFromSource(int row, Subscription.DataSource source) {
+        return source == null || dataSource[row] == source.ordinal();
+    }
+
+    /**
+     * Row index of a subscription, or -1 if it is not in the active catalog
+     */
+    public int rowOf(Long subscriptionId) {
+        Integer row = rowById.get(subscriptionId);
+        return row != null ? row : -1;
+    }
+
+    /**
+     * Subscription IDs for the given rows, in the same order
+     */
+    public List<Long> idsOf(int[] rows) {
+        Long[] result = new Long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = ids[rows[i]];
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -0,0 +1,28 @@
+package com.zipduck.domain.subscription;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of the subscriptions table used to detect catalog changes
+ * made by other nodes without reloading the catalog
+ * {@code revision} is the monotonic change counter; the aggregates also catch writes that bypass it.
+ */
+public record SubscriptionCatalogStamp(
+        Long totalCount,
+        Long activeCount,
+        Long maxId,
+        LocalDateTime lastUpdatedAt,
+        Long revision
+) {
+
+    /**
+     * Aggregates only, as selected by {@link SubscriptionRepository#findCatalogStamp()}
+     */
+    public SubscriptionCatalogStamp(Long totalCount, Long activeCount, Long maxId, LocalDateTime lastUpdatedAt) {
+        this(totalCount, activeCount, maxId, lastUpdatedAt, null);
+    }
+
+    public SubscriptionCatalogStamp withRevision(Long revision) {
+        return new SubscriptionCatalogStamp(totalCount, activeCount, maxId, lastUpdatedAt, revision);
+    }
+}
@@ -1,15 +1,30 @@
 package com.zipduck.domain.subscription;
 
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent.ChangeType;
+import com.zipduck.infrastructure.lease.Lease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for Subscription write operations
+ * Every catalog change bumps the catalog revision in its transaction and publishes a
+ * {@link SubscriptionCatalogChangedEvent}
  */
 @Slf4j
 @Service
@@ -18,12 +33,80 @@ import java.util.List;
 public class SubscriptionCommandService {
 
     private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionBulkRepository subscriptionBulkRepository;
+    private final SubscriptionArchiveRepository subscriptionArchiveRepository;
+    private final SubscriptionCatalogRevisionRepository revisionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.subscription.expiry-chunk-size:1000}")
+    private int expiryChunkSize;
+
+    @Value("${app.subscription.archive-after-days:180}")
+    private int archiveAfterDays;
 
     /**
      * Create new subscription
      */
     public Subscription create(Subscription subscription) {
-        return subscriptionRepository.save(subscription);
+        Subscription saved = subscriptionRepository.save(subscription);
+        publishIfAny(ChangeType.CREATED, List.of(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * Insert new and update changed public data listings in bulk
+     * FR-011, FR-028: Stored source fingerprints of the incoming IDs are prefetched in chunks and compared
+     * with each listing's fingerprint; only new or changed listings are written, as chunked multi-row upserts
+     * keyed by public_data_id, and only those publish catalog events.
+     * Duplicate public data IDs within the input keep the last occurrence.
+     */
+    public PublicDataUpsertResult upsertPublicData(List<Subscription> listings) {
+        Map<String, Subscription> incoming = new LinkedHashMap<>();
+        for (Subscription listing : listings) {
+            incoming.put(listing.getPublicDataId(), listing);
+        }
+
+        Map<String, PublicDataFingerprint> existing = findPublicDataFingerprints(incoming.keySet());
+
+        List<Subscription> changed = new ArrayList<>();
+        Set<String> createdIds = new HashSet<>();
+        Set<String> updatedIds = new HashSet<>();
+        for (Subscription listing : incoming.values()) {
+            String fingerprint = PublicDataRow.of(listing).fingerprint();
+            PublicDataFingerprint stored = existing.get(listing.getPublicDataId());
+            if (stored == null) {
+                createdIds.add(listing.getPublicDataId());
+            } else if (!fingerprint.equals(stored.sourceFingerprint())) {
+                updatedIds.add(listing.getPublicDataId());
+            } else {
+                continue;
+            }
+            listing.updateSourceFingerprint(fingerprint);
+            changed.add(listing);
+        }
+
+        subscriptionBulkRepository.upsertByPublicDataId(changed);
+
+        if (!changed.isEmpty()) {
+            Map<String, Long> ids = subscriptionBulkRepository.findIdsByPublicDataIds(createdIds);
+            publishIfAny(ChangeType.CREATED, createdIds.stream().map(ids::get).toList());
+            publishIfAny(ChangeType.UPDATED, updatedIds.stream().map(id -> existing.get(id).id()).toList());
+        }
+        return new PublicDataUpsertResult(createdIds.size(), updatedIds.size(),
+                incoming.size() - createdIds.size() - updatedIds.size());
+    }
+
+    private Map<String, PublicDataFingerprint> findPublicDataFingerprints(Collection<String> publicDataIds) {
+        List<String> ids = new ArrayList<>(publicDataIds);
+        Map<String, PublicDataFingerprint> fingerprints = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += SubscriptionBulkRepository.CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + SubscriptionBulkRepository.CHUNK_SIZE, ids.size()));
+            for (PublicDataFingerprint fingerprint : subscriptionRepository.findPublicDataFingerprints(chunk)) {
+                fingerprints.putIfAbsent(fingerprint.publicDataId(), fingerprint);
+            }
+        }
+        return fingerprints;
     }
 
     /**
@@ -32,31 +115,78 @@ public class SubscriptionCommandService {
      */
     public Subscription mergeWithPdfData(Subscription publicDbSubscription, String pdfDocumentId) {
         publicDbSubscription.markAsMerged(pdfDocumentId);
-        return subscriptionRepository.save(publicDbSubscription);
+        Subscription saved = subscriptionRepository.save(publicDbSubscription);
+        publishIfAny(ChangeType.UPDATED, List.of(saved.getId()));
+        return saved;
     }
 
     /**
      * Deactivate expired subscriptions
-     * FR-030, FR-031
+     * FR-030, FR-031: Set-based UPDATE in chunks of {@code app.subscription.expiry-chunk-size}, each chunk
+     * in its own short transaction. Each chunk publishes its IDs so read models drop them as soon as it commits.
+     * Runs under the job lease and stops before the next chunk once the lease is lost.
      */
-    public int deactivateExpiredSubscriptions() {
-        List<Subscription> expiredSubscriptions =
-                subscriptionRepository.findExpiredSubscriptions(LocalDate.now());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deactivateExpiredSubscriptions(Lease lease) {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        List<Long> chunk;
+        do {
+            lease.ensureHeld();
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = subscriptionBulkRepository.deactivateExpiredChunk(today, expiryChunkSize);
+                publishIfAny(ChangeType.DEACTIVATED, ids);
+                return ids;
+            });
+            total += chunk.size();
+        } while (chunk.size() == expiryChunkSize);
 
-        for (Subscription subscription : expiredSubscriptions) {
-            subscription.deactivate();
-        }
+        log.info("Deactivated {} expired subscriptions", total);
+        return total;
+    }
 
-        subscriptionRepository.saveAll(expiredSubscriptions);
-        log.info("Deactivated {} expired subscriptions", expiredSubscriptions.size());
-        return expiredSubscriptions.size();
+    /**
+     * Move long-expired subscriptions to the archive table
+     * FR-030: Inactive rows that ended more than {@code app.subscription.archive-after-days} ago leave the
+     * hot table in chunks; favorited rows are kept so favorites history is preserved.
+     * Runs under the job lease and stops before the next chunk once the lease is lost.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archiveExpiredSubscriptions(Lease lease) {
+        LocalDate cutoff = LocalDate.now().minusDays(archiveAfterDays);
+        int total = 0;
+        List<Long> chunk;
+        do {
+            lease.ensureHeld();
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = subscriptionArchiveRepository.archiveChunk(cutoff, expiryChunkSize);
+                publishIfAny(ChangeType.DELETED, ids);
+                return ids;
+            });
+            total += chunk.size();
+        } while (chunk.size() == expiryChunkSize);
+
+        log.info("Archived {} subscriptions that ended before {}", total, cutoff);
+        return total;
+    }
+
+    /**
+     * Bump the catalog revision in the current transaction and signal the change
+     */
+    private void publishIfAny(ChangeType type, List<Long> subscriptionIds) {
+        if (!subscriptionIds.isEmpty()) {
+            revisionRepository.increment();
+            eventPublisher.publishEvent(SubscriptionCatalogChangedEvent.of(type, subscriptionIds));
+        }
     }
 
     /**
      * Update subscription
      */
     public Subscription update(Subscription subscription) {
-        return subscriptionRepository.save(subscription);
+        Subscription saved = subscriptionRepository.save(subscription);
+        publishIfAny(ChangeType.UPDATED, List.of(saved.getId()));
+        return saved;
     }
 
     /**
@@ -64,5 +194,6 @@ public class SubscriptionCommandService {
      */
     public void delete(Long id) {
         subscriptionRepository.deleteById(id);
+        publishIfAny(ChangeType.DELETED, List.of(id));
     }
-}
\ No newline at end of file
+}
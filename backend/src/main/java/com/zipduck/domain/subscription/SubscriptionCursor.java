@@ -0,0 +1,47 @@
+package com.zipduck.domain.subscription;
+
+import com.zipduck.api.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the active subscription list, ordered by (applicationEndDate, id)
+ * Encoded as an opaque URL-safe token so clients never build one themselves
+ */
+public record SubscriptionCursor(LocalDate applicationEndDate, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Cursor positioned after the given row
+     */
+    public static SubscriptionCursor after(SubscriptionSummary summary) {
+        return new SubscriptionCursor(summary.applicationEndDate(), summary.id());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}, or {@code null} for the first page
+     */
+    public static SubscriptionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new SubscriptionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("INVALID_CURSOR", "Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = applicationEndDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
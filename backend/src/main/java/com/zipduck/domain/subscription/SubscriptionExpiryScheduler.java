@@ -0,0 +1,161 @@
+package com.zipduck.domain.subscription;
+
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent.ChangeType;
+import com.zipduck.infrastructure.lease.ClusterJobRunner;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deactivates subscriptions the moment their application period closes
+ * FR-030, FR-031: Active rows are never past their end date for longer than one expiry run
+ *
+ * Expiry is date-granular, so the queue holds one bucket per distinct end date rather than one
+ * timer per subscription. When a bucket comes due the set-based chunked deactivation runs, which
+ * publishes the DEACTIVATED catalog events read models listen to.
+ *
+ * Buckets are loaded from the database once the application is ready, extended from local
+ * catalog events, and resynced periodically to pick up rows written by other nodes. Every node
+ * keeps its own queue; when a bucket comes due, only the holder of the expiry lease runs the
+ * deactivation, and the others treat the bucket as handled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionExpiryScheduler {
+
+    /**
+     * Lease name shared with the backstop cron in PublicDataCollector
+     */
+    public static final String JOB_NAME = "deactivate-expired-subscriptions";
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionCommandService subscriptionCommandService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${app.subscription.expiry-retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    private final DelayQueue<ExpiryBucket> queue = new DelayQueue<>();
+    private final Set<LocalDate> scheduledDates = ConcurrentHashMap.newKeySet();
+    private volatile Thread worker;
+
+    /**
+     * Load every pending end date (including already-passed ones, which fire at once) and start the worker
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            log.error("Failed to load subscription end dates, the periodic resync will retry", e);
+        }
+        Thread thread = new Thread(this::run, "subscription-expiry");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Schedule end dates of subscriptions created or updated on this node
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(SubscriptionCatalogChangedEvent event) {
+        if (event.type() != ChangeType.CREATED && event.type() != ChangeType.UPDATED) {
+            return;
+        }
+        schedule(subscriptionRepository.findActiveEndDatesByIdIn(event.subscriptionIds()));
+    }
+
+    /**
+     * Reload end dates from the database, picking up subscriptions written by other nodes
+     * Buckets whose subscriptions have since changed date stay queued; firing them is a no-op
+     */
+    @Scheduled(fixedDelayString = "${app.subscription.expiry-resync-interval-ms:600000}")
+    public void resync() {
+        schedule(subscriptionRepository.findActiveEndDates());
+    }
+
+    private void schedule(Collection<LocalDate> endDates) {
+        for (LocalDate endDate : endDates) {
+            if (scheduledDates.add(endDate)) {
+                queue.put(ExpiryBucket.closingAfter(endDate));
+            }
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            ExpiryBucket bucket;
+            try {
+                bucket = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            scheduledDates.remove(bucket.endDate());
+
+            // One run covers every bucket that is already due
+            ExpiryBucket due;
+            while ((due = queue.poll()) != null) {
+                scheduledDates.remove(due.endDate());
+            }
+
+            try {
+                clusterJobRunner.runExclusively(JOB_NAME, lease -> {
+                    int deactivated = subscriptionCommandService.deactivateExpiredSubscriptions(lease);
+                    log.info("Expiry bucket {} fired, {} subscriptions deactivated", bucket.endDate(), deactivated);
+                });
+            } catch (RuntimeException e) {
+                log.error("Expiry run for {} failed, retrying in {}ms", bucket.endDate(), retryDelayMs, e);
+                scheduledDates.add(bucket.endDate());
+                queue.put(new ExpiryBucket(bucket.endDate(), System.currentTimeMillis() + retryDelayMs));
+            }
+        }
+    }
+
+    /**
+     * Subscriptions ending on {@code endDate} expire at the start of the following day
+     */
+    private record ExpiryBucket(LocalDate endDate, long fireAtMillis) implements Delayed {
+
+        static ExpiryBucket closingAfter(LocalDate endDate) {
+            long fireAt = endDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return new ExpiryBucket(endDate, fireAt);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((ExpiryBucket) other).fireAtMillis);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.zipduck.domain.subscription;
+
+/**
+ * Optional list filters for active subscriptions; {@code null} components are not applied
+ * Every component maps to an indexed column so filtering happens in the database
+ *
+ * @param regionId {@link com.zipduck.domain.region.RegionDictionary} ID of the requested location
+ */
+public record SubscriptionFilter(
+        Subscription.DataSource dataSource,
+        Integer regionId,
+        Subscription.HousingType housingType,
+        Long minPrice,
+        Long maxPrice
+) {
+
+    public static SubscriptionFilter none() {
+        return new SubscriptionFilter(null, null, null, null, null);
+    }
+}
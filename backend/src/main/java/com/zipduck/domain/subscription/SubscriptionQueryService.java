@@ -2,13 +2,29 @@ package com.zipduck.domain.subscription;
 
 import com.zipduck.api.exception.ResourceNotFoundException;
 import com.zipduck.domain.eligibility.EligibilityCalculator;
+import com.zipduck.domain.eligibility.EligibilityMatch;
+import com.zipduck.domain.eligibility.EligibilityMatchMaterializer;
+import com.zipduck.domain.eligibility.EligibilityMatchRepository;
+import com.zipduck.domain.eligibility.ScoredSubscriptionSummary;
+import com.zipduck.domain.eligibility.TopKSelector;
 import com.zipduck.domain.user.UserProfile;
+import com.zipduck.infrastructure.datasource.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +36,13 @@ import java.util.stream.Collectors;
 public class SubscriptionQueryService {
 
     private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionArchiveRepository subscriptionArchiveRepository;
     private final EligibilityCalculator eligibilityCalculator;
+    private final SubscriptionCatalog subscriptionCatalog;
+    private final RecommendationRankingCache rankingCache;
+    private final EligibilityMatchRepository eligibilityMatchRepository;
+    private final EligibilityMatchMaterializer eligibilityMatchMaterializer;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     /**
      * Get subscription by ID
@@ -30,6 +52,23 @@ public class SubscriptionQueryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Subscription not found with id: " + id));
     }
 
+    /**
+     * Get subscription by ID, falling back to the archive for long-expired listings
+     * Read-only: an archived subscription is detached and cannot be favorited or updated
+     */
+    public Subscription getByIdIncludingArchived(Long id) {
+        return subscriptionRepository.findById(id)
+                .or(() -> subscriptionArchiveRepository.findById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Subscription not found with id: " + id));
+    }
+
+    /**
+     * Get subscriptions by IDs in a single query (missing IDs are skipped)
+     */
+    public List<Subscription> getAllByIds(Collection<Long> ids) {
+        return subscriptionRepository.findAllById(ids);
+    }
+
     /**
      * Get all active subscriptions
      */
@@ -38,32 +77,90 @@ public class SubscriptionQueryService {
     }
 
     /**
-     * Get recommendations for user profile
+     * Get list-view summaries of all active subscriptions
+     * Projection query: no entity hydration or dirty-check snapshots
+     */
+    public List<SubscriptionSummary> getActiveSummaries() {
+        return subscriptionRepository.findActiveSummaries();
+    }
+
+    /**
+     * Get list-view summaries of the given subscriptions in one query (inactive and missing IDs are skipped)
+     */
+    public List<SubscriptionSummary> getActiveSummariesByIds(Collection<Long> ids) {
+        return subscriptionRepository.findActiveSummariesByIdIn(ids);
+    }
+
+    /**
+     * Get one keyset page of active list-view summaries, ordered by application end date then ID
+     * FR-027: Source, location, housing type and price filters run in the database, and the seek
+     * predicate replaces OFFSET so every page costs the same regardless of depth.
+     *
+     * @param after cursor from the previous page, {@code null} for the first page
+     */
+    public Slice<SubscriptionSummary> getActiveSummaries(SubscriptionFilter filter, SubscriptionCursor after,
+                                                         int size) {
+        List<SubscriptionSummary> rows = subscriptionRepository.findActiveSummariesAfter(
+                filter.dataSource(), filter.regionId(), filter.housingType(),
+                filter.minPrice(), filter.maxPrice(),
+                after != null ? after.applicationEndDate() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, size + 1));
+
+        // One extra row tells whether another page exists without a COUNT query
+        boolean hasNext = rows.size() > size;
+        List<SubscriptionSummary> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Get a page of recommendations for user profile
      * FR-004, FR-005, FR-026, FR-027, FR-032
      * T035: Unified recommendation logic with source filtering
+     *
+     * Profiles with materialized matches are served by an indexed range read of eligibility_matches.
+     * Otherwise the profile is queued for materialization and ranked with a bounded top-K over the
+     * in-memory catalog, shared through the eligibility cache by every profile with the same
+     * eligibility signature. While the catalog is still cold, eligibility is pre-filtered in SQL
+     * instead. Ties are broken by subscription ID so pages stay stable.
+     *
+     * @param limit optional cap on the number of ranked results, {@code null} for all eligible
      */
-    public List<Subscription> getRecommendations(UserProfile profile, Subscription.DataSource sourceFilter) {
-        List<Subscription> subscriptions;
-
-        // Apply source filter (FR-027)
-        if (sourceFilter == null) {
-            subscriptions = subscriptionRepository.findByIsActiveTrue();
-        } else {
-            subscriptions = subscriptionRepository.findByIsActiveTrueAndDataSource(sourceFilter);
+    public Page<ScoredSubscriptionSummary> getRecommendations(UserProfile profile, Subscription.DataSource sourceFilter,
+                                                      int page, int size, Integer limit) {
+        readYourWritesTracker.pinIfRecentlyWritten(profile.getUser().getId());
+        Pageable pageable = PageRequest.of(page, size);
+        int cap = limit != null ? limit : Integer.MAX_VALUE;
+        if (profile.hasMaterializedMatches()) {
+            return getMaterializedRecommendations(profile, sourceFilter, pageable, cap);
         }
+        eligibilityMatchMaterializer.requestRefresh(profile.getUser().getId());
 
-        // Filter by eligibility (FR-004, FR-032)
-        List<Subscription> eligibleSubscriptions = subscriptions.stream()
-                .filter(subscription -> eligibilityCalculator.isEligible(profile, subscription))
-                .collect(Collectors.toList());
+        SubscriptionCatalogSnapshot catalog = subscriptionCatalog.currentIfWarm();
+        if (catalog == null) {
+            return getPrefilteredRecommendations(profile, sourceFilter, pageable, cap);
+        }
+
+        int requested = (int) Math.min(pageable.getOffset() + size, cap);
+        String signature = catalog.signature().keyFor(profile, sourceFilter);
+        RecommendationRanking ranking = rankingCache.get(signature);
+        if (ranking == null || !ranking.covers(requested)) {
+            boolean cached = ranking != null;
+            ranking = rank(profile, catalog, sourceFilter, Math.max(requested, rankingCache.depth()));
+            if (!cached) {
+                rankingCache.put(signature, ranking.truncate(rankingCache.depth()));
+            }
+        }
 
-        // Sort by match score (FR-008)
-        eligibleSubscriptions.sort(
-                Comparator.comparingInt((Subscription s) ->
-                        eligibilityCalculator.calculateMatchScore(profile, s)).reversed()
-        );
+        int total = Math.min(ranking.getEligibleCount(), cap);
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(requested, total);
+        if (from >= to) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
 
-        return eligibleSubscriptions;
+        List<Long> pageIds = ranking.getRankedIds().subList(from, to);
+        return new PageImpl<>(loadScored(profile, pageIds), pageable, total);
     }
 
     /**
@@ -80,4 +177,80 @@ public class SubscriptionQueryService {
     public Subscription findByPublicDataId(String publicDataId) {
         return subscriptionRepository.findByPublicDataId(publicDataId).orElse(null);
     }
+
+    /**
+     * Read a page of materialized matches, best score first
+     */
+    private Page<ScoredSubscriptionSummary> getMaterializedRecommendations(UserProfile profile,
+                                                                          Subscription.DataSource sourceFilter,
+                                                                          Pageable pageable, int cap) {
+        Long userId = profile.getUser().getId();
+        Page<EligibilityMatch> matches = sourceFilter == null
+                ? eligibilityMatchRepository.findRankedByUserId(userId, pageable)
+                : eligibilityMatchRepository.findRankedByUserIdAndDataSource(userId, sourceFilter, pageable);
+
+        long total = Math.min(matches.getTotalElements(), cap);
+        long remaining = total - pageable.getOffset();
+        if (remaining <= 0) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        List<Long> pageIds = matches.getContent().stream()
+                .limit(remaining)
+                .map(EligibilityMatch::getSubscriptionId)
+                .collect(Collectors.toList());
+        return new PageImpl<>(loadScored(profile, pageIds), pageable, total);
+    }
+
+    /**
+     * Rank recommendations while the in-memory catalog is cold
+     * Eligibility bounds are evaluated by the database, so only rows that can match are loaded and scored
+     */
+    private Page<ScoredSubscriptionSummary> getPrefilteredRecommendations(UserProfile profile,
+                                                                         Subscription.DataSource sourceFilter,
+                                                                         Pageable pageable, int cap) {
+        List<SubscriptionSummary> candidates = subscriptionRepository.findEligibleSummaries(
+                profile.getAge(), profile.getAnnualIncome(), profile.getHouseholdMembers(),
+                profile.getHousingOwned(), sourceFilter);
+
+        List<ScoredSubscriptionSummary> ranked = eligibilityCalculator.scoreSummaries(profile, candidates).stream()
+                .filter(ScoredSubscriptionSummary::isEligible)
+                .sorted(Comparator.comparingInt(ScoredSubscriptionSummary::matchScore).reversed()
+                        .thenComparing(scored -> scored.summary().id()))
+                .collect(Collectors.toList());
+
+        int total = Math.min(ranked.size(), cap);
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+        return new PageImpl<>(ranked.subList(from, to), pageable, total);
+    }
+
+    /**
+     * Rank the profile's eligible catalog rows, keeping the best {@code depth}
+     * Filters by eligibility and source (FR-004, FR-027, FR-032, SC-006), then ranks by match score (FR-008)
+     */
+    private RecommendationRanking rank(UserProfile profile, SubscriptionCatalogSnapshot catalog,
+                                       Subscription.DataSource sourceFilter, int depth) {
+        int[] eligibleRows = eligibilityCalculator.findEligibleRows(profile, catalog, sourceFilter);
+        int[] scores = eligibilityCalculator.calculateMatchScores(profile, catalog, eligibleRows);
+        int[] ranked = TopKSelector.select(catalog, eligibleRows, scores, depth);
+        return RecommendationRanking.of(eligibleRows.length, catalog.idsOf(ranked));
+    }
+
+    /**
+     * Load list-view summaries in the given order and evaluate each exactly once
+     * Rows that became inactive or ineligible since the snapshot was built are dropped
+     */
+    private List<ScoredSubscriptionSummary> loadScored(UserProfile profile, List<Long> orderedIds) {
+        Map<Long, SubscriptionSummary> byId = subscriptionRepository.findActiveSummariesByIdIn(orderedIds).stream()
+                .collect(Collectors.toMap(SubscriptionSummary::id, Function.identity()));
+        List<SubscriptionSummary> ordered = orderedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return eligibilityCalculator.scoreSummaries(profile, ordered).stream()
+                .filter(ScoredSubscriptionSummary::isEligible)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
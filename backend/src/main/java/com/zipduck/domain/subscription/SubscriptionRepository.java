@@ -1,11 +1,14 @@
 package com.zipduck.domain.subscription;
 
+import com.zipduck.domain.search.SubscriptionSearchRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,105 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      */
     List<Subscription> findByIsActiveTrue();
 
+    /**
+     * Project active subscriptions into eligibility catalog rows
+     * SC-006: Selects only the bound columns - no entity hydration
+     */
+    @Query("SELECT new com.zipduck.domain.subscription.SubscriptionCatalogRow(" +
+           "s.id, s.minAge, s.maxAge, s.minIncome, s.maxIncome, " +
+           "s.minHouseholdMembers, s.maxHouseholdMembers, s.maxHousingOwned, " +
+           "s.regionId, s.location, s.dataSource) " +
+           "FROM Subscription s WHERE s.isActive = true ORDER BY s.id")
+    List<SubscriptionCatalogRow> findActiveCatalogRows();
+
+    /**
+     * List-view projection of all active subscriptions
+     * Read-only: rows are built from the select list, never attached to the persistence context
+     */
+    @Query(SubscriptionSummary.SELECT +
+           "FROM Subscription s WHERE s.isActive = true ORDER BY s.applicationEndDate ASC, s.id ASC")
+    List<SubscriptionSummary> findActiveSummaries();
+
+    /**
+     * One keyset page of active list-view projections, ordered by (applicationEndDate, id)
+     * Filters and the seek predicate are evaluated by the database; callers bound the page
+     * with an unpaged-count {@link Pageable} such as {@code PageRequest.of(0, size + 1)}
+     */
+    @Query(SubscriptionSummary.SELECT +
+           "FROM Subscription s WHERE s.isActive = true " +
+           "AND (:dataSource IS NULL OR s.dataSource = :dataSource) " +
+           "AND (:regionId IS NULL OR s.regionId = :regionId) " +
+           "AND (:housingType IS NULL OR s.housingType = :housingType) " +
+           "AND (:minPrice IS NULL OR s.minPrice >= :minPrice) " +
+           "AND (:maxPrice IS NULL OR s.maxPrice <= :maxPrice) " +
+           "AND (:afterEndDate IS NULL OR s.applicationEndDate > :afterEndDate " +
+           "     OR (s.applicationEndDate = :afterEndDate AND s.id > :afterId)) " +
+           "ORDER BY s.applicationEndDate ASC, s.id ASC")
+    List<SubscriptionSummary> findActiveSummariesAfter(
+            @Param("dataSource") Subscription.DataSource dataSource,
+            @Param("regionId") Integer regionId,
+            @Param("housingType") Subscription.HousingType housingType,
+            @Param("minPrice") Long minPrice,
+            @Param("maxPrice") Long maxPrice,
+            @Param("afterEndDate") LocalDate afterEndDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Active list-view projections a profile is eligible for, evaluated in SQL
+     * FR-004, FR-012: Same inclusive bounds as EligibilityCalculator, NULL meaning unbounded.
+     * Served by the V8 prefilter indexes: a range scan on max_housing_owned with the remaining
+     * bounds checked inside the index before any row is read.
+     */
+    @Query(SubscriptionSummary.SELECT +
+           "FROM Subscription s WHERE s.isActive = true " +
+           "AND (:dataSource IS NULL OR s.dataSource = :dataSource) " +
+           "AND (s.maxHousingOwned IS NULL OR s.maxHousingOwned >= :housingOwned) " +
+           "AND (s.minAge IS NULL OR s.minAge <= :age) " +
+           "AND (s.maxAge IS NULL OR s.maxAge >= :age) " +
+           "AND (s.minIncome IS NULL OR s.minIncome <= :income) " +
+           "AND (s.maxIncome IS NULL OR s.maxIncome >= :income) " +
+           "AND (s.minHouseholdMembers IS NULL OR s.minHouseholdMembers <= :household) " +
+           "AND (s.maxHouseholdMembers IS NULL OR s.maxHouseholdMembers >= :household)")
+    List<SubscriptionSummary> findEligibleSummaries(
+            @Param("age") Integer age,
+            @Param("income") Long income,
+            @Param("household") Integer household,
+            @Param("housingOwned") Integer housingOwned,
+            @Param("dataSource") Subscription.DataSource dataSource
+    );
+
+    /**
+     * List-view projection of the given subscriptions, active ones only
+     */
+    @Query(SubscriptionSummary.SELECT +
+           "FROM Subscription s WHERE s.isActive = true AND s.id IN :ids")
+    List<SubscriptionSummary> findActiveSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Project active subscriptions into search index rows
+     */
+    @Query("SELECT new com.zipduck.domain.search.SubscriptionSearchRow(s.id, s.name, s.address, s.location) " +
+           "FROM Subscription s WHERE s.isActive = true ORDER BY s.id")
+    List<SubscriptionSearchRow> findActiveSearchRows();
+
+    /**
+     * Search index rows for the given subscriptions, active ones only
+     */
+    @Query("SELECT new com.zipduck.domain.search.SubscriptionSearchRow(s.id, s.name, s.address, s.location) " +
+           "FROM Subscription s WHERE s.isActive = true AND s.id IN :ids")
+    List<SubscriptionSearchRow> findActiveSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Fingerprint of the subscriptions table for catalog change detection
+     * updated_at has second precision, so the catalog combines this with the change counter
+     */
+    @Query("SELECT new com.zipduck.domain.subscription.SubscriptionCatalogStamp(" +
+           "COUNT(s), SUM(CASE WHEN s.isActive = true THEN 1L ELSE 0L END), MAX(s.id), MAX(s.updatedAt)) " +
+           "FROM Subscription s")
+    SubscriptionCatalogStamp findCatalogStamp();
+
     /**
      * Find active subscriptions by data source
      * FR-027: Source filtering
@@ -31,12 +133,36 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      */
     List<Subscription> findByIsActiveTrueAndLocationContaining(String location);
 
+    /**
+     * Source fingerprints of the given public data listings
+     * FR-028: Narrow lookup on the public_data_id unique key to diff a collection run against stored rows
+     */
+    @Query("SELECT new com.zipduck.domain.subscription.PublicDataFingerprint(" +
+           "s.id, s.publicDataId, s.sourceFingerprint) " +
+           "FROM Subscription s WHERE s.publicDataId IN :publicDataIds")
+    List<PublicDataFingerprint> findPublicDataFingerprints(@Param("publicDataIds") Collection<String> publicDataIds);
+
     /**
      * Find subscription by public data ID
      * FR-028: Duplicate detection
      */
     Optional<Subscription> findByPublicDataId(String publicDataId);
 
+    /**
+     * Distinct application end dates of active subscriptions
+     * FR-030: One expiry instant per date, so the expiry scheduler never holds per-row timers
+     */
+    @Query("SELECT DISTINCT s.applicationEndDate FROM Subscription s " +
+           "WHERE s.isActive = true AND s.applicationEndDate IS NOT NULL")
+    List<LocalDate> findActiveEndDates();
+
+    /**
+     * Distinct application end dates of the given subscriptions, active ones only
+     */
+    @Query("SELECT DISTINCT s.applicationEndDate FROM Subscription s " +
+           "WHERE s.isActive = true AND s.applicationEndDate IS NOT NULL AND s.id IN :ids")
+    List<LocalDate> findActiveEndDatesByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find expired subscriptions
      * FR-030: Expiration management
@@ -0,0 +1,42 @@
+package com.zipduck.domain.subscription;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only list-view projection of a subscription
+ * Selected directly by JPQL constructor expression - never a managed entity, so no
+ * persistence-context snapshot or dirty checking. Large text columns (special qualifications,
+ * preference categories) are left to the detail endpoint.
+ */
+public record SubscriptionSummary(
+        Long id,
+        String name,
+        String location,
+        Integer regionId,
+        String address,
+        Subscription.HousingType housingType,
+        Long minPrice,
+        Long maxPrice,
+        Integer minAge,
+        Integer maxAge,
+        Long minIncome,
+        Long maxIncome,
+        Integer minHouseholdMembers,
+        Integer maxHouseholdMembers,
+        Integer maxHousingOwned,
+        LocalDate applicationStartDate,
+        LocalDate applicationEndDate,
+        Subscription.DataSource dataSource,
+        Boolean isMerged,
+        String detailUrl
+) {
+
+    /**
+     * JPQL select list matching the record components, for {@code SELECT new ...} queries
+     */
+    static final String SELECT = "SELECT new com.zipduck.domain.subscription.SubscriptionSummary(" +
+            "s.id, s.name, s.location, s.regionId, s.address, s.housingType, s.minPrice, s.maxPrice, " +
+            "s.minAge, s.maxAge, s.minIncome, s.maxIncome, s.minHouseholdMembers, s.maxHouseholdMembers, " +
+            "s.maxHousingOwned, s.applicationStartDate, s.applicationEndDate, s.dataSource, s.isMerged, " +
+            "s.detailUrl) ";
+}
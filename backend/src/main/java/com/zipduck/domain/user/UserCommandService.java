@@ -3,6 +3,7 @@ package com.zipduck.domain.user;
 import com.zipduck.api.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ public class UserCommandService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create new user
@@ -44,8 +46,8 @@ public class UserCommandService {
      * FR-001, FR-014
      * T092: Profile persistence with automatic recommendation refresh
      *
-     * When profile is updated, recommendations are automatically refreshed on next query
-     * since eligibility calculation is performed in real-time based on current profile data
+     * Publishes {@link UserProfileChangedEvent} so materialized recommendations are rebuilt;
+     * until then recommendations are evaluated in real-time from the current profile
      */
     public UserProfile createOrUpdateProfile(Long id, Integer age, Long annualIncome,
                                             Integer householdMembers, Integer housingOwned,
@@ -68,6 +70,7 @@ public class UserCommandService {
                     .build();
             user.updateProfile(profile);
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserProfileChangedEvent(id));
             log.info("Profile created successfully for user id: {} - Age: {}, Income: {}, Household: {}, Housing: {}",
                     id, age, annualIncome, householdMembers, housingOwned);
             return profile;
@@ -80,10 +83,11 @@ public class UserCommandService {
                     oldProfile.getHouseholdMembers(), oldProfile.getHousingOwned());
 
             user.getProfile().update(age, annualIncome, householdMembers, housingOwned, locationPreferences);
+            eventPublisher.publishEvent(new UserProfileChangedEvent(id));
 
             log.info("Profile updated successfully for user id: {} - Age: {}, Income: {}, Household: {}, Housing: {}",
                     id, age, annualIncome, householdMembers, housingOwned);
-            log.debug("Profile changes will trigger automatic recommendation refresh on next query");
+            log.debug("Profile changes will trigger materialized recommendation refresh");
 
             return user.getProfile();
         }
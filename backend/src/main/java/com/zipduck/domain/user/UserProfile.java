@@ -1,6 +1,7 @@
 package com.zipduck.domain.user;
 
 import com.zipduck.domain.BaseEntity;
+import com.zipduck.domain.region.RegionDictionary;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -39,10 +40,18 @@ public class UserProfile extends BaseEntity {
     @Column(length = 500)
     private String locationPreferences; // Comma-separated list of preferred locations
 
+    private Long locationPreferenceMask; // RegionDictionary bitmask of locationPreferences
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean notificationsEnabled = false;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Long revision = 0L; // Bumped on every eligibility-relevant change
+
+    private Long matchesRevision; // Revision the materialized eligibility matches were built from
+
     public void setUser(User user) {
         this.user = user;
     }
@@ -58,9 +67,35 @@ public class UserProfile extends BaseEntity {
         this.householdMembers = householdMembers;
         this.housingOwned = housingOwned;
         this.locationPreferences = locationPreferences;
+        this.locationPreferenceMask = RegionDictionary.maskOf(locationPreferences);
+        this.revision++;
+    }
+
+    /**
+     * Whether materialized eligibility matches reflect the current profile values
+     */
+    public boolean hasMaterializedMatches() {
+        return matchesRevision != null && matchesRevision.equals(revision);
     }
 
     public void updateNotificationSettings(Boolean enabled) {
         this.notificationsEnabled = enabled;
     }
+
+    /**
+     * Preferred regions as a RegionDictionary bitmask
+     * Falls back to parsing the preferences for profiles saved before the mask existed
+     */
+    public long getLocationPreferenceMask() {
+        if (locationPreferenceMask == null) {
+            locationPreferenceMask = RegionDictionary.maskOf(locationPreferences);
+        }
+        return locationPreferenceMask;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncLocationPreferenceMask() {
+        this.locationPreferenceMask = RegionDictionary.maskOf(locationPreferences);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.zipduck.domain.user;
+
+import com.zipduck.domain.eligibility.UserEligibilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process read model of all user profiles, exposed as a {@link UserEligibilityIndex}
+ * Used by background jobs (match materialization, new-listing notifications) that need
+ * "which users qualify" without scanning user_profiles per subscription.
+ *
+ * Every read checks the table stamp; when it moved, only profiles modified since the last
+ * refresh are reloaded and merged. Deletions or unaccounted revisions force a full reload.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileCatalog {
+
+    // Rows are stamped when flushed but visible only on commit; re-read a window to catch late commits
+    private static final Duration DELTA_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Map<Long, UserProfileIndexRow> rowsByUserId = new HashMap<>();
+
+    private volatile UserEligibilityIndex index;
+    private UserProfileStamp stamp;
+
+    /**
+     * Get an index reflecting every committed profile change
+     */
+    public UserEligibilityIndex current() {
+        refreshLock.lock();
+        try {
+            UserProfileStamp latest = userRepository.findProfileStamp();
+            if (index == null || !Objects.equals(latest, stamp)) {
+                refresh(latest);
+            }
+            return index;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Users whose committed profile no longer matches the given index
+     * Only profiles modified since shortly before the index was read are compared, so this is cheap
+     * enough to run in each transaction that writes from the index.
+     *
+     * @param readAt when {@link #current()} returned the index
+     */
+    public Set<Long> findOutdated(UserEligibilityIndex index, LocalDateTime readAt) {
+        return userRepository.findProfileIndexRowsUpdatedSince(readAt.minus(DELTA_OVERLAP)).stream()
+                .filter(row -> {
+                    int indexRow = index.rowOf(row.userId());
+                    return indexRow < 0 || index.revision(indexRow) != row.revision();
+                })
+                .map(UserProfileIndexRow::userId)
+                .collect(Collectors.toSet());
+    }
+
+    private void refresh(UserProfileStamp latest) {
+        long startTime = System.currentTimeMillis();
+        boolean incremental = index != null && stamp != null && stamp.lastUpdatedAt() != null;
+        if (incremental) {
+            List<UserProfileIndexRow> changed = userRepository.findProfileIndexRowsUpdatedSince(
+                    stamp.lastUpdatedAt().minus(DELTA_OVERLAP));
+            changed.forEach(row -> rowsByUserId.put(row.userId(), row));
+            incremental = isConsistentWith(latest);
+        }
+        if (!incremental) {
+            rowsByUserId.clear();
+            userRepository.findProfileIndexRows().forEach(row -> rowsByUserId.put(row.userId(), row));
+        }
+
+        index = UserEligibilityIndex.of(rowsByUserId.values());
+        stamp = latest;
+        log.info("User eligibility index {}: {} profiles in {}ms",
+                incremental ? "updated" : "rebuilt", rowsByUserId.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private boolean isConsistentWith(UserProfileStamp latest) {
+        if (rowsByUserId.size() != latest.totalCount()) {
+            return false;
+        }
+        long revisionSum = 0;
+        for (UserProfileIndexRow row : rowsByUserId.values()) {
+            revisionSum += row.revision();
+        }
+        return revisionSum == (latest.revisionSum() != null ? latest.revisionSum() : 0L);
+    }
+}
@@ -0,0 +1,8 @@
+package com.zipduck.domain.user;
+
+/**
+ * Published when a user's profile is created or updated
+ * FR-014: Listeners refresh anything derived from the profile (e.g. materialized matches)
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
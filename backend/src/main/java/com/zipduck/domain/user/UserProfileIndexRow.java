@@ -0,0 +1,18 @@
+package com.zipduck.domain.user;
+
+/**
+ * Read-only projection of the profile columns needed for reverse eligibility lookups
+ * Selected directly by JPQL constructor expression - never a managed entity
+ */
+public record UserProfileIndexRow(
+        Long userId,
+        Integer age,
+        Long annualIncome,
+        Integer householdMembers,
+        Integer housingOwned,
+        Long locationPreferenceMask,
+        String locationPreferences,
+        Boolean notificationsEnabled,
+        Long revision
+) {
+}
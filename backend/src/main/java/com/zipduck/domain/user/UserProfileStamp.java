@@ -0,0 +1,14 @@
+package com.zipduck.domain.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of the user_profiles table used to detect profile changes
+ * without reloading every profile
+ */
+public record UserProfileStamp(
+        Long totalCount,
+        Long revisionSum,
+        LocalDateTime lastUpdatedAt
+) {
+}
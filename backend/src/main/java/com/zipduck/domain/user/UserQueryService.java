@@ -1,6 +1,7 @@
 package com.zipduck.domain.user;
 
 import com.zipduck.api.exception.ResourceNotFoundException;
+import com.zipduck.infrastructure.datasource.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,11 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserQueryService {
 
     private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     /**
      * Get user by ID
      */
     public User getById(Long id) {
+        readYourWritesTracker.pinIfRecentlyWritten(id);
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
     }
@@ -36,6 +39,7 @@ public class UserQueryService {
      */
     public User getByIdWithProfile(Long id) {
         log.debug("Loading user with profile for id: {}", id);
+        readYourWritesTracker.pinIfRecentlyWritten(id);
         User user = userRepository.findByIdWithProfile(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
@@ -1,10 +1,13 @@
 package com.zipduck.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +22,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.id = :id")
     Optional<User> findByIdWithProfile(@Param("id") Long id);
+
+    /**
+     * Project profiles into reverse eligibility index rows
+     */
+    @Query("SELECT new com.zipduck.domain.user.UserProfileIndexRow(" +
+           "p.user.id, p.age, p.annualIncome, p.householdMembers, p.housingOwned, " +
+           "p.locationPreferenceMask, p.locationPreferences, p.notificationsEnabled, p.revision) " +
+           "FROM UserProfile p")
+    List<UserProfileIndexRow> findProfileIndexRows();
+
+    /**
+     * Project profiles modified at or after the given time
+     */
+    @Query("SELECT new com.zipduck.domain.user.UserProfileIndexRow(" +
+           "p.user.id, p.age, p.annualIncome, p.householdMembers, p.housingOwned, " +
+           "p.locationPreferenceMask, p.locationPreferences, p.notificationsEnabled, p.revision) " +
+           "FROM UserProfile p WHERE p.updatedAt >= :since")
+    List<UserProfileIndexRow> findProfileIndexRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Fingerprint of the user_profiles table for index change detection
+     */
+    @Query("SELECT new com.zipduck.domain.user.UserProfileStamp(" +
+           "COUNT(p), SUM(p.revision), MAX(p.updatedAt)) FROM UserProfile p")
+    UserProfileStamp findProfileStamp();
+
+    /**
+     * Record the profile revision the materialized eligibility matches were built from
+     */
+    @Modifying
+    @Query("UPDATE UserProfile p SET p.matchesRevision = :revision WHERE p.id = :profileId")
+    int markMatchesMaterialized(@Param("profileId") Long profileId, @Param("revision") Long revision);
 }
\ No newline at end of file
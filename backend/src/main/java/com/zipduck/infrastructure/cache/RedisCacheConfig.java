@@ -44,6 +44,9 @@ public class RedisCacheConfig {
     @Value("${app.cache.eligibility-ttl:3600}")
     private long eligibilityTtlSeconds;
 
+    @Value("${app.cache.comparison-ttl:600}")
+    private long comparisonTtlSeconds;
+
     /**
      * Configure Redis cache manager with JSON serialization
      */
@@ -85,12 +88,16 @@ public class RedisCacheConfig {
         RedisCacheConfiguration eligibilityConfig = cacheConfig
                 .entryTtl(Duration.ofSeconds(eligibilityTtlSeconds));
 
+        RedisCacheConfiguration comparisonConfig = cacheConfig
+                .entryTtl(Duration.ofSeconds(comparisonTtlSeconds));
+
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(cacheConfig)
             .withCacheConfiguration("pdf-analysis", pdfConfig)
             .withCacheConfiguration("user-profiles", userProfileConfig)
             .withCacheConfiguration("subscriptions", subscriptionConfig)
             .withCacheConfiguration("eligibility", eligibilityConfig)
+            .withCacheConfiguration("comparisons", comparisonConfig)
             .transactionAware()
             .build();
     }
@@ -0,0 +1,36 @@
+package com.zipduck.infrastructure.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-transaction hint that forces a read-only transaction onto the primary
+ * Must be set before the transaction's first statement, which is when the (lazy) connection is routed.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * Route the rest of the current transaction to the primary; no-op outside a transaction
+     */
+    public static void pinPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isPrimaryPinned()) {
+            return;
+        }
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_PINNED.remove();
+            }
+        });
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+}
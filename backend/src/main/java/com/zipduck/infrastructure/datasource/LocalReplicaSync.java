@@ -0,0 +1,132 @@
+package com.zipduck.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stand-in replication for the replica-local profile
+ * The embedded primary and replicas are separate H2 databases. Each replica gets the primary's schema
+ * once and then a full copy of its rows on every run, inside one replica transaction so readers see
+ * either the previous or the new copy. The copy time is recorded in {@value #STATUS_TABLE}, which the
+ * profile's lag query reads, so a replica stays out of routing until it has been seeded.
+ */
+@Slf4j
+@Component
+@Profile("replica-local")
+@RequiredArgsConstructor
+public class LocalReplicaSync {
+
+    static final String STATUS_TABLE = "LOCAL_REPLICA_STATUS";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final HikariDataSource primaryDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final Set<String> seededReplicas = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.local-sync-interval-ms:2000}")
+    public void sync() {
+        for (Map.Entry<String, DataSource> replica : replicaLagMonitor.replicas().entrySet()) {
+            try (Connection primary = primaryDataSource.getConnection()) {
+                copy(primary, replica.getKey(), replica.getValue());
+            } catch (SQLException e) {
+                log.warn("Local replica sync failed for {}: {}", replica.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void copy(Connection primary, String name, DataSource replica) throws SQLException {
+        List<String> tables = tables(primary);
+        try (Connection target = replica.getConnection();
+             Statement statement = target.createStatement()) {
+            target.setReadOnly(false);
+            if (!seededReplicas.contains(name)) {
+                replaySchema(primary, statement);
+                seededReplicas.add(name);
+                log.info("Seeded local replica {} with {} tables", name, tables.size());
+            }
+
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    statement.executeUpdate("DELETE FROM " + table);
+                    copyRows(primary, target, table);
+                }
+                statement.executeUpdate("MERGE INTO " + STATUS_TABLE + " KEY (ID) VALUES (1, LOCALTIMESTAMP)");
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                target.setAutoCommit(true);
+                statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            }
+        }
+    }
+
+    private static List<String> tables(Connection primary) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = primary.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rows.next()) {
+                tables.add("\"PUBLIC\".\"" + rows.getString(1) + "\"");
+            }
+        }
+        return tables;
+    }
+
+    private static void replaySchema(Connection primary, Statement target) throws SQLException {
+        target.execute("DROP ALL OBJECTS");
+        try (Statement statement = primary.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (script.next()) {
+                target.execute(script.getString(1));
+            }
+        }
+        target.execute("CREATE TABLE " + STATUS_TABLE + " (ID INT PRIMARY KEY, SYNCED_AT TIMESTAMP)");
+    }
+
+    private static void copyRows(Connection primary, Connection target, String table) throws SQLException {
+        try (Statement statement = primary.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT * FROM " + table)) {
+            int columns = rows.getMetaData().getColumnCount();
+            String insert = "INSERT INTO " + table + " VALUES (" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+            try (PreparedStatement batch = target.prepareStatement(insert)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        batch.setObject(i, rows.getObject(i));
+                    }
+                    batch.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        batch.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    batch.executeBatch();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.zipduck.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary
+ * Wrapped in a LazyConnectionDataSourceProxy so the connection is fetched at the first statement,
+ * after the transaction's read-only flag and any {@link DataSourceRoutingContext} pin are known.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRoutingContext.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        String replica = lagMonitor.nextHealthyReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+}
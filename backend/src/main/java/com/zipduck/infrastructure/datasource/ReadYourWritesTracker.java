@@ -0,0 +1,94 @@
+package com.zipduck.infrastructure.datasource;
+
+import com.zipduck.domain.favorite.FavoriteChangedEvent;
+import com.zipduck.domain.user.UserProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes window for replica routing
+ * After a user's profile or favorites change, that user's reads stay on the primary for
+ * app.datasource.routing.read-your-writes-ms so a lagging replica never hides the write.
+ * The window is shared through Redis (key ryw:user:{id} expiring with the window) so a request served
+ * by another node sees it too; the local map only saves the Redis lookup on the writing node.
+ * If Redis cannot answer, reads go to the primary. The window should exceed the allowed replica lag.
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "ryw:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean routingEnabled;
+    private final long windowMs;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate,
+                                 @Value("${app.datasource.routing.enabled:false}") boolean routingEnabled,
+                                 @Value("${app.datasource.routing.read-your-writes-ms:10000}") long windowMs) {
+        this.redisTemplate = redisTemplate;
+        this.routingEnabled = routingEnabled;
+        this.windowMs = windowMs;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        recordWrite(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        recordWrite(event.userId());
+    }
+
+    /**
+     * Route the current read-only transaction to the primary if the user wrote recently
+     * Call before the transaction's first query
+     */
+    public void pinIfRecentlyWritten(Long userId) {
+        if (!routingEnabled || userId == null) {
+            return;
+        }
+        Long until = pinnedUntil.get(userId);
+        if ((until != null && until > System.currentTimeMillis()) || recentlyWrittenElsewhere(userId)) {
+            DataSourceRoutingContext.pinPrimary();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.read-your-writes-ms:10000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    private void recordWrite(Long userId) {
+        if (!routingEnabled || userId == null) {
+            return;
+        }
+        pinnedUntil.put(userId, System.currentTimeMillis() + windowMs);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", Duration.ofMillis(windowMs));
+        } catch (Exception e) {
+            log.warn("Failed to share read-your-writes window for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private boolean recentlyWrittenElsewhere(Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (Exception e) {
+            log.warn("Read-your-writes lookup failed for user {}, reading from primary: {}", userId, e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.zipduck.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks which replicas are within the allowed replication lag
+ * Replicas start unhealthy, so reads stay on the primary until the first check passes.
+ * A replica that cannot report its lag (query error, replication stopped) counts as unhealthy.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final ReplicaRoutingProperties properties;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, ReplicaRoutingProperties properties) {
+        this.replicas = replicas;
+        this.properties = properties;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Next healthy replica in round-robin order, or {@code null} if none is usable
+     */
+    public String nextHealthyReplica() {
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            Long lag = lagSeconds(name, dataSource);
+            if (lag != null && lag <= properties.getMaxLagSeconds()) {
+                healthy.add(name);
+            } else {
+                log.debug("Replica {} excluded from reads (lag: {}s)", name, lag);
+            }
+        });
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Healthy read replicas: {} of {}", healthy, replicas.keySet());
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * Close replica pools on shutdown
+     */
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Replication lag in seconds, 0 when checks are disabled, {@code null} when unknown
+     */
+    private Long lagSeconds(String name, DataSource dataSource) {
+        String lagQuery = properties.getLagQuery();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(1) ? 0L : null;
+            }
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    log.warn("Replica {} reports no replication status", name);
+                    return null;
+                }
+                long lag = resultSet.getLong(properties.getLagColumn());
+                return resultSet.wasNull() ? null : lag;
+            }
+        } catch (Exception e) {
+            log.warn("Lag check failed for replica {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+}
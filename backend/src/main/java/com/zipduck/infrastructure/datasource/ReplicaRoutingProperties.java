@@ -0,0 +1,52 @@
+package com.zipduck.infrastructure.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing settings (app.datasource.routing)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Route read-only transactions to replicas; when false the primary serves everything
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replicas lagging further than this are skipped until they catch up
+     */
+    private long maxLagSeconds = 5;
+
+    private long lagCheckIntervalMs = 5000;
+
+    /**
+     * Statement reporting replication lag; blank disables lag checks (e.g. embedded databases)
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    /**
+     * Column of {@link #lagQuery} holding the lag in seconds
+     */
+    private String lagColumn = "Seconds_Behind_Source";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -1,24 +1,30 @@
 package com.zipduck.infrastructure.external;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.RetryBackoffSpec;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 
 /**
  * 공공데이터포털 API 클라이언트
@@ -30,7 +36,15 @@ import java.util.List;
 public class PublicDataClient {
 
     private static final int TIMEOUT_SECONDS = 10;
-    private static final int DEFAULT_PAGE_SIZE = 100;
+    // Items requested ahead from each page in flight; the response body is read only as fast as this drains
+    private static final int PAGE_PREFETCH = 32;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // Per-page retry: a transient failure re-requests only that page, not the whole collection
+    private static final RetryBackoffSpec PAGE_RETRY = reactor.util.retry.Retry
+        .backoff(2, Duration.ofSeconds(1))
+        .filter(PublicDataClient::isTransient)
+        .onRetryExhaustedThrow((spec, signal) -> signal.failure());
 
     @Value("${app.public-data.base-url}")
     private String baseUrl;
@@ -38,45 +52,82 @@ public class PublicDataClient {
     @Value("${app.public-data.api-key}")
     private String apiKey;
 
+    @Value("${app.public-data.page-size:100}")
+    private int pageSize;
+
+    @Value("${app.public-data.page-concurrency:4}")
+    private int pageConcurrency;
+
     private final WebClient.Builder webClientBuilder;
-    private final ObjectMapper objectMapper;
+    private final PublicDataResponseDecoder responseDecoder;
 
     /**
-     * 청약 목록 조회
+     * 청약 목록 스트림 조회
+     * 첫 페이지를 내보내면서 totalCount를 읽고, 첫 페이지가 끝나면 나머지 페이지를 제한된 동시성으로 병렬 조회합니다.
+     * 항목은 디코딩되는 즉시 내보내며 페이지 간 순서는 보장하지 않습니다. 응답 본문은 구독자의 요청만큼만
+     * 읽으므로 메모리에는 페이지당(최대 page-concurrency개) 미리 요청한 항목과 읽는 중인 버퍼만 남고,
+     * 페이지 크기(numOfRows)와 무관합니다.
+     * 중간에 실패하면 오류로 끝나며, 회로가 열려 있을 때만 빈 스트림을 반환합니다.
      *
      * @param fromDate 조회 시작일
-     * @return 청약 정보 목록
+     * @return 청약 정보 스트림
      */
-    @CircuitBreaker(name = "publicData", fallbackMethod = "fetchSubscriptionsFallback")
-    @Retry(name = "publicData")
-    public List<PublicSubscriptionDto> fetchSubscriptions(LocalDate fromDate) {
-        log.info("공공데이터포털에서 청약 정보 조회 시작: fromDate={}", fromDate);
-
-        WebClient webClient = webClientBuilder
-            .baseUrl(baseUrl)
-            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-            .build();
+    @CircuitBreaker(name = "publicData", fallbackMethod = "streamSubscriptionsFallback")
+    public Flux<PublicSubscriptionDto> streamSubscriptions(LocalDate fromDate) {
+        return Flux.defer(() -> {
+                log.info("공공데이터포털에서 청약 정보 조회 시작: fromDate={}", fromDate);
+
+                WebClient webClient = webClientBuilder
+                    .baseUrl(baseUrl)
+                    .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .build();
+
+                // totalCount may follow the items in the body, so it is only known once the first page ends
+                AtomicInteger totalCount = new AtomicInteger(-1);
+                Flux<PublicSubscriptionDto> remainingPages = Flux.defer(() -> {
+                    int pageCount = totalCount.get() > 0 ? (totalCount.get() + pageSize - 1) / pageSize : 1;
+                    log.info("공공데이터 전체 {} 건, {} 페이지", Math.max(totalCount.get(), 0), pageCount);
+                    return Flux.range(2, Math.max(pageCount - 1, 0))
+                        .flatMap(pageNo -> fetchPage(webClient, fromDate, pageNo, count -> { }),
+                            pageConcurrency, PAGE_PREFETCH);
+                });
+                return fetchPage(webClient, fromDate, 1, totalCount::set).concatWith(remainingPages);
+            })
+            .doOnError(e -> log.error("공공데이터포털 API 호출 실패: {}", e.getMessage(), e))
+            .onErrorMap(e -> new PublicDataApiException("공공데이터포털에서 청약 정보를 가져오는데 실패했습니다", e));
+    }
 
-        try {
-            String response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/ApplyhomeInfoDetailSvc/getAPTLttotPblancDetail")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("pageNo", 1)
-                    .queryParam("numOfRows", DEFAULT_PAGE_SIZE)
-                    .queryParam("startmonth", fromDate.format(DateTimeFormatter.ofPattern("yyyyMM")))
-                    .queryParam("_type", "json")
-                    .build())
-                .retrieve()
-                .bodyToMono(String.class)
+    /**
+     * 청약 목록 한 페이지 조회 (일시적 오류는 해당 페이지만 재시도)
+     * 재시도는 이미 내보낸 항목 수만큼 건너뛰고 이어서 내보내므로 항목이 중복되지 않습니다.
+     * 제한 시간은 항목 간 간격에 적용됩니다.
+     */
+    private Flux<PublicSubscriptionDto> fetchPage(WebClient webClient, LocalDate fromDate, int pageNo,
+                                                  IntConsumer totalCountListener) {
+        return Flux.defer(() -> {
+            AtomicLong emitted = new AtomicLong();
+            return Flux.defer(() -> readItems(webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                            .path("/ApplyhomeInfoDetailSvc/getAPTLttotPblancDetail")
+                            .queryParam("serviceKey", apiKey)
+                            .queryParam("pageNo", pageNo)
+                            .queryParam("numOfRows", pageSize)
+                            .queryParam("startmonth", fromDate.format(MONTH_FORMAT))
+                            .queryParam("_type", "json")
+                            .build())
+                        .retrieve(), totalCountListener)
+                    .skip(emitted.get()))
                 .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                .block();
+                .doOnNext(item -> emitted.incrementAndGet())
+                .retryWhen(PAGE_RETRY);
+        });
+    }
 
-            return parseSubscriptionResponse(response);
-        } catch (Exception e) {
-            log.error("공공데이터포털 API 호출 실패: {}", e.getMessage(), e);
-            throw new PublicDataApiException("공공데이터포털에서 청약 정보를 가져오는데 실패했습니다", e);
-        }
+    /**
+     * 응답 본문을 스트리밍 디코딩하여 항목을 완성되는 즉시 내보냄
+     */
+    private Flux<PublicSubscriptionDto> readItems(WebClient.ResponseSpec response, IntConsumer totalCountListener) {
+        return responseDecoder.decode(response.bodyToFlux(DataBuffer.class), totalCountListener);
     }
 
     /**
@@ -96,19 +147,22 @@ public class PublicDataClient {
             .build();
 
         try {
-            String response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/ApplyhomeInfoDetailSvc/getAPTLttotPblancDetail")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("pblancNo", externalId)
-                    .queryParam("_type", "json")
-                    .build())
-                .retrieve()
-                .bodyToMono(String.class)
+            List<PublicSubscriptionDto> results = readItems(webClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                        .path("/ApplyhomeInfoDetailSvc/getAPTLttotPblancDetail")
+                        .queryParam("serviceKey", apiKey)
+                        .queryParam("pblancNo", externalId)
+                        .queryParam("_type", "json")
+                        .build())
+                    .retrieve(), count -> { })
+                .take(1)
+                .collectList()
                 .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
                 .block();
 
-            List<PublicSubscriptionDto> results = parseSubscriptionResponse(response);
+            if (results == null) {
+                results = Collections.emptyList();
+            }
             if (results.isEmpty()) {
                 throw new PublicDataApiException("청약 정보를 찾을 수 없습니다: " + externalId);
             }
@@ -120,90 +174,12 @@ public class PublicDataClient {
     }
 
     /**
-     * API 응답 파싱
-     */
-    private List<PublicSubscriptionDto> parseSubscriptionResponse(String response) {
-        try {
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode responseNode = rootNode.path("response");
-            JsonNode bodyNode = responseNode.path("body");
-            JsonNode itemsNode = bodyNode.path("items");
-            JsonNode itemNode = itemsNode.path("item");
-
-            List<PublicSubscriptionDto> subscriptions = new ArrayList<>();
-
-            if (itemNode.isArray()) {
-                for (JsonNode item : itemNode) {
-                    subscriptions.add(parseSubscriptionItem(item));
-                }
-            } else if (!itemNode.isMissingNode()) {
-                subscriptions.add(parseSubscriptionItem(itemNode));
-            }
-
-            log.info("청약 정보 {} 건 파싱 완료", subscriptions.size());
-            return subscriptions;
-        } catch (Exception e) {
-            log.error("API 응답 파싱 실패: {}", e.getMessage(), e);
-            throw new PublicDataApiException("API 응답을 파싱하는데 실패했습니다", e);
-        }
-    }
-
-    /**
-     * 개별 청약 항목 파싱
+     * Fallback: 회로가 열려 청약 목록 조회를 시도하지 않은 경우
+     * 조회 중 실패는 일부 항목이 이미 처리되었을 수 있으므로 빈 결과로 바꾸지 않고 그대로 전파합니다
      */
-    private PublicSubscriptionDto parseSubscriptionItem(JsonNode item) {
-        return PublicSubscriptionDto.builder()
-            .externalId(getTextValue(item, "PBLANC_NO"))
-            .name(getTextValue(item, "HOUSE_NM"))
-            .location(getTextValue(item, "HSSPLY_ADRES"))
-            .housingType(getTextValue(item, "HOUSE_SECD_NM"))
-            .applicationStartDate(parseDate(getTextValue(item, "RCEPT_BGNDE")))
-            .applicationEndDate(parseDate(getTextValue(item, "RCEPT_ENDDE")))
-            .supplyCount(getIntValue(item, "TOT_SUPLY_HSHLDCO"))
-            .minPrice(getLongValue(item, "LTTOT_TOP_AMOUNT"))
-            .maxPrice(getLongValue(item, "LTTOT_TOP_AMOUNT"))
-            .constructorName(getTextValue(item, "BSNS_MBY_NM"))
-            .announcementDate(parseDate(getTextValue(item, "PBLANC_DE")))
-            .build();
-    }
-
-    private String getTextValue(JsonNode node, String fieldName) {
-        JsonNode field = node.get(fieldName);
-        return field != null && !field.isNull() ? field.asText() : null;
-    }
-
-    private int getIntValue(JsonNode node, String fieldName) {
-        JsonNode field = node.get(fieldName);
-        return field != null && !field.isNull() ? field.asInt(0) : 0;
-    }
-
-    private long getLongValue(JsonNode node, String fieldName) {
-        JsonNode field = node.get(fieldName);
-        return field != null && !field.isNull() ? field.asLong(0) : 0;
-    }
-
-    private LocalDate parseDate(String dateStr) {
-        if (dateStr == null || dateStr.isEmpty()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        } catch (Exception e) {
-            try {
-                return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyyMMdd"));
-            } catch (Exception e2) {
-                log.warn("날짜 파싱 실패: {}", dateStr);
-                return null;
-            }
-        }
-    }
-
-    /**
-     * Fallback: 청약 목록 조회 실패 시
-     */
-    private List<PublicSubscriptionDto> fetchSubscriptionsFallback(LocalDate fromDate, Exception e) {
+    private Flux<PublicSubscriptionDto> streamSubscriptionsFallback(LocalDate fromDate, CallNotPermittedException e) {
         log.error("공공데이터포털 API Circuit Breaker 작동: {}", e.getMessage());
-        return Collections.emptyList();
+        return Flux.empty();
     }
 
     /**
@@ -214,6 +190,13 @@ public class PublicDataClient {
         throw new PublicDataApiException("공공데이터포털 API가 현재 사용 불가능합니다. 잠시 후 다시 시도해주세요.", e);
     }
 
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
     /**
      * 공공데이터 API 예외
      */
@@ -0,0 +1,236 @@
+package com.zipduck.infrastructure.external;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zipduck.infrastructure.external.PublicDataClient.PublicDataApiException;
+import com.zipduck.infrastructure.external.PublicDataClient.PublicSubscriptionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 공공데이터포털 응답 스트리밍 디코더
+ * 네트워크 DataBuffer를 Jackson 비동기 파서에 그대로 흘려보내며 response.body.items.item 항목을
+ * 완성되는 즉시 내보냅니다. 응답 전체를 String이나 JsonNode 트리로 만들지 않고, 버퍼는 구독자의
+ * 요청에 맞춰 하나씩 읽으므로 메모리에는 읽는 중인 버퍼 하나와 그 버퍼에서 완성된 항목만 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class PublicDataResponseDecoder {
+
+    private static final List<String> BODY_PATH = List.of("", "response", "body");
+    private static final List<String> ITEM_PATH = List.of("", "response", "body", "items", "item");
+    private static final List<String> ITEM_IN_ARRAY_PATH = List.of("", "response", "body", "items", "item", "");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답 본문을 청약 항목으로 디코딩
+     *
+     * @param body 응답 본문 버퍼 (소비 후 해제됨)
+     * @param totalCountListener response.body.totalCount를 만나면 호출됨
+     */
+    Flux<PublicSubscriptionDto> decode(Flux<DataBuffer> body, IntConsumer totalCountListener) {
+        return Flux.defer(() -> {
+            ResponseTokenizer tokenizer = new ResponseTokenizer(totalCountListener);
+            // One buffer at a time, so the body is read no faster than items are requested
+            return body.concatMapIterable(tokenizer::feed, 1)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+                .doFinally(signal -> tokenizer.close());
+        });
+    }
+
+    /**
+     * 하나의 응답에 대한 파서 상태
+     * path는 현재 위치까지의 필드 이름 (배열 원소와 루트는 "")
+     */
+    private final class ResponseTokenizer {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final IntConsumer totalCountListener;
+        private final List<String> path = new ArrayList<>();
+        private final Map<String, String> itemFields = new HashMap<>();
+        private int itemDepth = -1;
+
+        ResponseTokenizer(IntConsumer totalCountListener) {
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new PublicDataApiException("API 응답 파서를 생성하지 못했습니다", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.totalCountListener = totalCountListener;
+        }
+
+        List<PublicSubscriptionDto> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new PublicDataApiException("API 응답을 파싱하는데 실패했습니다", e);
+            }
+        }
+
+        List<PublicSubscriptionDto> endOfInput() {
+            feeder.endOfInput();
+            try {
+                return drain();
+            } catch (IOException e) {
+                throw new PublicDataApiException("API 응답을 파싱하는데 실패했습니다", e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                log.debug("API 응답 파서 종료 실패: {}", e.getMessage());
+            }
+        }
+
+        private List<PublicSubscriptionDto> drain() throws IOException {
+            List<PublicSubscriptionDto> items = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case START_OBJECT, START_ARRAY -> {
+                        String name = parser.currentName();
+                        path.add(name != null ? name : "");
+                        if (token == JsonToken.START_OBJECT && itemDepth < 0
+                                && (path.equals(ITEM_PATH) || path.equals(ITEM_IN_ARRAY_PATH))) {
+                            itemDepth = path.size();
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (path.size() == itemDepth) {
+                            items.add(toDto(itemFields));
+                            itemFields.clear();
+                            itemDepth = -1;
+                        }
+                        path.remove(path.size() - 1);
+                    }
+                    case FIELD_NAME, VALUE_NULL -> {
+                    }
+                    default -> onScalar();
+                }
+            }
+            return items;
+        }
+
+        private void onScalar() throws IOException {
+            if (itemDepth >= 0) {
+                // Nested values inside an item are not used
+                if (path.size() == itemDepth) {
+                    itemFields.put(parser.currentName(), parser.getText());
+                }
+            } else if (path.equals(BODY_PATH) && "totalCount".equals(parser.currentName())) {
+                totalCountListener.accept((int) parseLong(parser.getText(), 0));
+            }
+        }
+    }
+
+    /**
+     * 개별 청약 항목 변환
+     */
+    private static PublicSubscriptionDto toDto(Map<String, String> item) {
+        return PublicSubscriptionDto.builder()
+            .externalId(item.get("PBLANC_NO"))
+            .name(item.get("HOUSE_NM"))
+            .location(item.get("HSSPLY_ADRES"))
+            .housingType(item.get("HOUSE_SECD_NM"))
+            .applicationStartDate(parseDate(item.get("RCEPT_BGNDE")))
+            .applicationEndDate(parseDate(item.get("RCEPT_ENDDE")))
+            .supplyCount((int) parseLong(item.get("TOT_SUPLY_HSHLDCO"), 0))
+            .minPrice(parseLong(item.get("LTTOT_TOP_AMOUNT"), 0))
+            .maxPrice(parseLong(item.get("LTTOT_TOP_AMOUNT"), 0))
+            .constructorName(item.get("BSNS_MBY_NM"))
+            .announcementDate(parseDate(item.get("PBLANC_DE")))
+            .build();
+    }
+
+    /**
+     * yyyy-MM-dd 또는 yyyyMMdd 날짜 파싱 (예외 없이 실패 시 null)
+     */
+    static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.strip();
+        int year;
+        int month;
+        int day;
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            year = digits(text, 0, 4);
+            month = digits(text, 5, 7);
+            day = digits(text, 8, 10);
+        } else if (text.length() == 8) {
+            year = digits(text, 0, 4);
+            month = digits(text, 4, 6);
+            day = digits(text, 6, 8);
+        } else {
+            year = -1;
+            month = -1;
+            day = -1;
+        }
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+            log.warn("날짜 파싱 실패: {}", value);
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * 정수 파싱 (숫자가 아니면 기본값)
+     */
+    static long parseLong(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        String text = value.strip();
+        int start = text.startsWith("-") ? 1 : 0;
+        if (text.length() == start || text.length() - start > 18) {
+            return defaultValue;
+        }
+        long result = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return defaultValue;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return start == 1 ? -result : result;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
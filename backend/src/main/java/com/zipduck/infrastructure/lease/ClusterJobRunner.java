@@ -0,0 +1,116 @@
+package com.zipduck.infrastructure.lease;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs cluster-wide scheduled jobs on one node at a time
+ * Every node triggers the job; only the lease holder runs it. The lease is renewed every third
+ * of its TTL while the job runs, so a node that dies mid-run loses it within one TTL and the
+ * next trigger on another node takes over. If a renewal is refused, or renewals keep failing for a
+ * whole TTL, the lease is marked lost and the job's next {@link Lease#ensureHeld()} aborts it.
+ *
+ * Node-local jobs (read-model rebuilds, queues fed by local events) must not use this.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobRunner {
+
+    private final LeaseStore leaseStore;
+
+    @Value("${app.lease.ttl-ms:60000}")
+    private long leaseTtlMs;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Run a job if this node can acquire its lease
+     * The job receives the lease so it can stamp writes with the fencing token and check it is
+     * still held before each write phase
+     *
+     * @return false if the job was skipped because another node holds the lease, or stopped after losing it
+     */
+    public boolean runExclusively(String jobName, Consumer<Lease> job) {
+        Duration ttl = Duration.ofMillis(leaseTtlMs);
+        Optional<Lease> acquired;
+        try {
+            acquired = leaseStore.tryAcquire(jobName, owner, ttl);
+        } catch (RuntimeException e) {
+            log.error("Failed to acquire lease for job {}, skipping this run", jobName, e);
+            return false;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("Job {} is held by another node, skipping", jobName);
+            return false;
+        }
+
+        Lease lease = acquired.get();
+        AtomicLong lastRenewedAt = new AtomicLong(System.currentTimeMillis());
+        long renewEveryMs = Math.max(leaseTtlMs / 3, 1);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> renew(lease, ttl, lastRenewedAt), renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+        try {
+            job.accept(lease);
+            return true;
+        } catch (LeaseLostException e) {
+            log.warn("Job {} stopped: {}", jobName, e.getMessage());
+            return false;
+        } finally {
+            renewal.cancel(false);
+            if (!lease.isLost()) {
+                try {
+                    leaseStore.release(lease);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to release lease for job {}, it expires in {}ms: {}",
+                            jobName, leaseTtlMs, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private void renew(Lease lease, Duration ttl, AtomicLong lastRenewedAt) {
+        if (lease.isLost()) {
+            return;
+        }
+        try {
+            if (leaseStore.renew(lease, ttl)) {
+                lastRenewedAt.set(System.currentTimeMillis());
+            } else if (lease.markLost()) {
+                log.warn("Lost lease for job {} (token {}); a newer holder may be running it",
+                        lease.name(), lease.fencingToken());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew lease for job {}: {}", lease.name(), e.getMessage());
+            // Without a successful renewal for a whole TTL the lease has expired in the store
+            if (System.currentTimeMillis() - lastRenewedAt.get() >= ttl.toMillis() && lease.markLost()) {
+                log.warn("Lease for job {} (token {}) expired while renewals failed", lease.name(), lease.fencingToken());
+            }
+        }
+    }
+}
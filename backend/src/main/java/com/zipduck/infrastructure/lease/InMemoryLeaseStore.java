@@ -0,0 +1,60 @@
+package com.zipduck.infrastructure.lease;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Process-local lease store with the same semantics as {@link RedisLeaseStore}
+ * For single-node runs and as a Redis stand-in in tests ({@code app.lease.store=memory})
+ */
+@Component
+@ConditionalOnProperty(name = "app.lease.store", havingValue = "memory")
+public class InMemoryLeaseStore implements LeaseStore {
+
+    private final Map<String, Held> leases = new HashMap<>();
+    private final Map<String, Long> fences = new HashMap<>();
+
+    @Override
+    public synchronized Optional<Lease> tryAcquire(String name, String owner, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Held held = leases.get(name);
+        if (held != null && held.expiresAt() > now) {
+            return Optional.empty();
+        }
+        long token = Math.max(fences.getOrDefault(name, 0L) + 1, now);
+        fences.put(name, token);
+        Lease lease = new Lease(name, owner, token);
+        leases.put(name, new Held(lease.holderValue(), now + ttl.toMillis()));
+        return Optional.of(lease);
+    }
+
+    @Override
+    public synchronized boolean renew(Lease lease, Duration ttl) {
+        long now = System.currentTimeMillis();
+        if (!isHeld(lease, now)) {
+            return false;
+        }
+        leases.put(lease.name(), new Held(lease.holderValue(), now + ttl.toMillis()));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(Lease lease) {
+        if (isHeld(lease, System.currentTimeMillis())) {
+            leases.remove(lease.name());
+        }
+    }
+
+    private boolean isHeld(Lease lease, long now) {
+        Held held = leases.get(lease.name());
+        return held != null && held.expiresAt() > now && held.holderValue().equals(lease.holderValue());
+    }
+
+    private record Held(String holderValue, long expiresAt) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.zipduck.infrastructure.lease;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A held lease on a named cluster-wide job
+ * The fencing token increases with every acquisition of the same name, so a write stamped with it
+ * can be rejected once a newer holder has written. {@link ClusterJobRunner} marks the lease lost when
+ * a renewal fails; jobs call {@link #ensureHeld()} before each write phase to stop early.
+ */
+public final class Lease {
+
+    private final String name;
+    private final String owner;
+    private final long fencingToken;
+    private final AtomicBoolean lost = new AtomicBoolean();
+
+    public Lease(String name, String owner, long fencingToken) {
+        this.name = name;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * Whether this node can no longer be sure it holds the lease
+     */
+    public boolean isLost() {
+        return lost.get();
+    }
+
+    /**
+     * Abort the job if the lease was lost
+     *
+     * @throws LeaseLostException if a renewal failed; a newer holder may be running the job
+     */
+    public void ensureHeld() {
+        if (lost.get()) {
+            throw new LeaseLostException(this);
+        }
+    }
+
+    /**
+     * @return true if this call marked it, false if it was already lost
+     */
+    boolean markLost() {
+        return lost.compareAndSet(false, true);
+    }
+
+    /**
+     * Value stored for the lease; renew and release only succeed while it is unchanged
+     */
+    String holderValue() {
+        return owner + ":" + fencingToken;
+    }
+
+    @Override
+    public String toString() {
+        return "Lease[" + name + ", token " + fencingToken + (lost.get() ? ", lost" : "") + "]";
+    }
+}
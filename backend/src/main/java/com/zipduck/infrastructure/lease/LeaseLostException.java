@@ -0,0 +1,11 @@
+package com.zipduck.infrastructure.lease;
+
+/**
+ * Thrown when a job finds it no longer holds its lease and must stop writing
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(Lease lease) {
+        super("Lost lease for job " + lease.name() + " (token " + lease.fencingToken() + ")");
+    }
+}
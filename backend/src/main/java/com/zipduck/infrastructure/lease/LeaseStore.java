@@ -0,0 +1,31 @@
+package com.zipduck.infrastructure.lease;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Storage for expiring, fenced job leases shared by all nodes
+ */
+public interface LeaseStore {
+
+    /**
+     * Acquire the lease if nobody holds it
+     * Fencing tokens are at least the current epoch millisecond, so they keep increasing even if
+     * the store loses its counters
+     *
+     * @return the lease, or empty if another owner holds it
+     */
+    Optional<Lease> tryAcquire(String name, String owner, Duration ttl);
+
+    /**
+     * Extend a held lease
+     *
+     * @return false if the lease expired or is now held by someone else
+     */
+    boolean renew(Lease lease, Duration ttl);
+
+    /**
+     * Release a held lease; a no-op if it already expired or changed hands
+     */
+    void release(Lease lease);
+}
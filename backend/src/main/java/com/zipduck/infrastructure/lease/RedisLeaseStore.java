@@ -0,0 +1,75 @@
+package com.zipduck.infrastructure.lease;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lease store on the shared Redis
+ * Each operation is one Lua script, so check-and-set is atomic. The lease key and its fencing
+ * counter share a hash tag to stay in one slot on Redis Cluster.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.lease.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLeaseStore implements LeaseStore {
+
+    private static final String KEY_PREFIX = "lease:{";
+
+    // KEYS: lease, fence counter; ARGV: owner, ttl ms, epoch ms. Returns the token, or nil if held.
+    private static final RedisScript<String> ACQUIRE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return false end " +
+            "local current = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "if tonumber(ARGV[3]) > current then redis.call('SET', KEYS[2], ARGV[3]) " +
+            "else redis.call('INCR', KEYS[2]) end " +
+            "local token = redis.call('GET', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token",
+            String.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, String owner, Duration ttl) {
+        String token = redisTemplate.execute(ACQUIRE, List.of(leaseKey(name), fenceKey(name)),
+                owner, String.valueOf(ttl.toMillis()), String.valueOf(System.currentTimeMillis()));
+        return token != null ? Optional.of(new Lease(name, owner, Long.parseLong(token))) : Optional.empty();
+    }
+
+    @Override
+    public boolean renew(Lease lease, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW, List.of(leaseKey(lease.name())),
+                lease.holderValue(), String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void release(Lease lease) {
+        redisTemplate.execute(RELEASE, List.of(leaseKey(lease.name())), lease.holderValue());
+    }
+
+    private static String leaseKey(String name) {
+        return KEY_PREFIX + name + "}";
+    }
+
+    private static String fenceKey(String name) {
+        return KEY_PREFIX + name + "}:fence";
+    }
+}
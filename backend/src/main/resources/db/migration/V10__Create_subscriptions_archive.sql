@@ -0,0 +1,45 @@
+-- Cold storage for long-expired subscriptions (SubscriptionArchiveRepository)
+-- Keeps the hot subscriptions table bounded by open and recently closed announcements.
+-- Same columns as subscriptions plus archived_at; only primary-key lookups are served,
+-- so the hot table's filter and keyset indexes are not copied.
+
+CREATE TABLE subscriptions_archive (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    region_id INT NULL,
+    address VARCHAR(1000),
+    housing_type VARCHAR(50) NOT NULL,
+    min_price BIGINT NOT NULL,
+    max_price BIGINT NOT NULL,
+
+    -- Eligibility criteria
+    min_age INT,
+    max_age INT,
+    min_income BIGINT,
+    max_income BIGINT,
+    min_household_members INT,
+    max_household_members INT,
+    max_housing_owned INT,
+    special_qualifications VARCHAR(2000),
+    preference_categories VARCHAR(1000),
+
+    -- Application period
+    application_start_date DATE NOT NULL,
+    application_end_date DATE NOT NULL,
+
+    -- Data source tracking
+    data_source VARCHAR(20) NOT NULL,
+    is_merged BOOLEAN NOT NULL,
+    public_data_id VARCHAR(500),
+    pdf_document_id VARCHAR(500),
+
+    is_active BOOLEAN NOT NULL,
+    detail_url VARCHAR(2000),
+
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_archive_public_data_id (public_data_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
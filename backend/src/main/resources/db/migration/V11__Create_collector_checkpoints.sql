@@ -0,0 +1,12 @@
+-- Incremental public data collection (PublicDataCollector)
+-- One watermark per external source: runs fetch only announcements after it,
+-- with a periodic full reconciliation tracked by last_full_sync_at
+
+CREATE TABLE collector_checkpoints (
+    source VARCHAR(50) PRIMARY KEY,
+    last_announcement_date DATE NULL,
+    last_external_id VARCHAR(500) NULL,
+    last_full_sync_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
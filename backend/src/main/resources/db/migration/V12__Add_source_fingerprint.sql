@@ -0,0 +1,10 @@
+-- Content-hash change detection for public data collection (PublicDataRow.fingerprint)
+-- Rows written before this migration have no fingerprint and are rewritten once on the next run
+
+ALTER TABLE subscriptions
+    ADD COLUMN supply_count INT NULL AFTER max_price,
+    ADD COLUMN source_fingerprint VARCHAR(64) NULL AFTER public_data_id;
+
+ALTER TABLE subscriptions_archive
+    ADD COLUMN supply_count INT NULL AFTER max_price,
+    ADD COLUMN source_fingerprint VARCHAR(64) NULL AFTER public_data_id;
@@ -0,0 +1,5 @@
+-- Lease fencing for the public data collector (ClusterJobRunner)
+-- A checkpoint write is accepted only from the newest lease holder
+
+ALTER TABLE collector_checkpoints
+    ADD COLUMN fencing_token BIGINT NULL AFTER last_full_sync_at;
@@ -0,0 +1,10 @@
+-- Monotonic change counter for the subscription catalog (SubscriptionCatalog stamp probe)
+-- Bumped in the same transaction as every catalog write, so other nodes detect changes that leave
+-- the row counts, max id and second-precision updated_at unchanged
+
+CREATE TABLE subscription_catalog_revision (
+    id INT PRIMARY KEY,
+    revision BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO subscription_catalog_revision (id, revision) VALUES (1, 0);
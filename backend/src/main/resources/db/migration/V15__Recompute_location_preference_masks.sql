@@ -0,0 +1,10 @@
+-- Location preferences naming a 시/군/구 ("강남구") now resolve to their 시/도, and unresolved entries
+-- keep a sentinel bit instead of collapsing to "no preference" (RegionDictionary.maskOf)
+-- Stored masks are cleared and recomputed by the application on next load/save
+-- (UserProfile.getLocationPreferenceMask); matches scored with the old masks are re-materialized
+
+UPDATE user_profiles
+SET location_preference_mask = NULL,
+    matches_revision = NULL
+WHERE location_preferences IS NOT NULL
+  AND TRIM(location_preferences) <> '';
@@ -0,0 +1,29 @@
+-- Region dictionary IDs for location matching
+-- IDs follow com.zipduck.domain.region.RegionDictionary (append-only)
+
+ALTER TABLE subscriptions ADD COLUMN region_id INT NULL AFTER location;
+ALTER TABLE user_profiles ADD COLUMN location_preference_mask BIGINT NULL AFTER location_preferences;
+
+-- Backfill subscription regions; same first-match order as RegionDictionary
+UPDATE subscriptions SET region_id = CASE
+    WHEN location LIKE '%서울%' THEN 1
+    WHEN location LIKE '%경기%' THEN 2
+    WHEN location LIKE '%인천%' THEN 3
+    WHEN location LIKE '%부산%' THEN 4
+    WHEN location LIKE '%대구%' THEN 5
+    WHEN location LIKE '%대전%' THEN 6
+    WHEN location LIKE '%광주%' THEN 7
+    WHEN location LIKE '%울산%' THEN 8
+    WHEN location LIKE '%세종%' THEN 9
+    WHEN location LIKE '%강원%' THEN 10
+    WHEN location LIKE '%충북%' OR location LIKE '%충청북%' THEN 11
+    WHEN location LIKE '%충남%' OR location LIKE '%충청남%' THEN 12
+    WHEN location LIKE '%전북%' OR location LIKE '%전라북%' THEN 13
+    WHEN location LIKE '%전남%' OR location LIKE '%전라남%' THEN 14
+    WHEN location LIKE '%경북%' OR location LIKE '%경상북%' THEN 15
+    WHEN location LIKE '%경남%' OR location LIKE '%경상남%' THEN 16
+    WHEN location LIKE '%제주%' THEN 17
+    ELSE 0
+END;
+
+-- Profile masks are computed by the application on next load/save (UserProfile.getLocationPreferenceMask)
@@ -0,0 +1,21 @@
+-- Materialized per-user recommendations
+-- eligibility_matches holds one row per eligible (user, subscription) pair, written by
+-- EligibilityMatchMaterializer and read as a range ordered by score
+
+-- Profile revision tracking: matches are used only when matches_revision = revision
+ALTER TABLE user_profiles
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN matches_revision BIGINT NULL;
+
+-- Source filter support (FR-027) without joining subscriptions
+ALTER TABLE eligibility_matches
+    ADD COLUMN data_source VARCHAR(20) NOT NULL DEFAULT 'PUBLIC_DB' AFTER subscription_id;
+
+-- Nothing has written this table yet; start clean before adding the unique key
+DELETE FROM eligibility_matches;
+
+ALTER TABLE eligibility_matches
+    DROP INDEX idx_user_subscription,
+    ADD UNIQUE KEY uk_user_subscription (user_id, subscription_id),
+    ADD INDEX idx_user_score (user_id, match_score DESC, subscription_id),
+    ADD INDEX idx_user_source_score (user_id, data_source, match_score DESC, subscription_id);
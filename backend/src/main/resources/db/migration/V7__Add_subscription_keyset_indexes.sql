@@ -0,0 +1,15 @@
+-- Keyset pagination for GET /api/v1/subscriptions
+-- Each index serves the seek predicate on (application_end_date, id) in list order,
+-- alone or behind one equality filter, so a page reads only its own rows
+
+CREATE INDEX idx_active_end_id
+ON subscriptions(is_active, application_end_date, id);
+
+CREATE INDEX idx_active_source_end_id
+ON subscriptions(is_active, data_source, application_end_date, id);
+
+CREATE INDEX idx_active_region_end_id
+ON subscriptions(is_active, region_id, application_end_date, id);
+
+CREATE INDEX idx_active_type_end_id
+ON subscriptions(is_active, housing_type, application_end_date, id);
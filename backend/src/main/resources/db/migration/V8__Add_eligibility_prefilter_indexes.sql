@@ -0,0 +1,13 @@
+-- SQL eligibility pre-filter (SubscriptionRepository.findEligibleSummaries)
+-- Used for recommendations while the in-memory catalog is cold.
+-- max_housing_owned leads the bounds: "IS NULL OR >= ?" is a two-interval range scan, and the
+-- remaining age/income/household bounds are checked inside the index (index condition pushdown)
+-- so only eligible rows are read from the table. Column names follow the Subscription entity.
+
+CREATE INDEX idx_eligibility_prefilter
+ON subscriptions(is_active, max_housing_owned, min_age, max_age, min_income, max_income,
+                 min_household_members, max_household_members);
+
+CREATE INDEX idx_eligibility_prefilter_source
+ON subscriptions(is_active, data_source, max_housing_owned, min_age, max_age, min_income, max_income,
+                 min_household_members, max_household_members);
@@ -0,0 +1,17 @@
+-- Bulk public data upsert (SubscriptionBulkRepository.upsertByPublicDataId)
+-- INSERT ... ON DUPLICATE KEY UPDATE needs public_data_id to be unique
+
+-- Older per-item collection could race into duplicates; keep the ID on the oldest row only
+UPDATE subscriptions s
+JOIN (
+    SELECT public_data_id, MIN(id) AS keep_id
+    FROM subscriptions
+    WHERE public_data_id IS NOT NULL
+    GROUP BY public_data_id
+    HAVING COUNT(*) > 1
+) d ON s.public_data_id = d.public_data_id AND s.id <> d.keep_id
+SET s.public_data_id = NULL;
+
+ALTER TABLE subscriptions
+    DROP INDEX idx_public_data_id,
+    ADD UNIQUE KEY uk_public_data_id (public_data_id);
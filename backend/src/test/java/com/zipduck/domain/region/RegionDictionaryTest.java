@@ -0,0 +1,83 @@
+package com.zipduck.domain.region;
+
+import org.junit.jupiter.api.Test;
+
+import static com.zipduck.domain.region.RegionDictionary.NO_PREFERENCE;
+import static com.zipduck.domain.region.RegionDictionary.UNRESOLVED_PREFERENCE;
+import static com.zipduck.domain.region.RegionDictionary.bitOf;
+import static com.zipduck.domain.region.RegionDictionary.maskOf;
+import static com.zipduck.domain.region.RegionDictionary.matches;
+import static com.zipduck.domain.region.RegionDictionary.regionIdOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionDictionaryTest {
+
+    private static final int SEOUL = regionIdOf("서울");
+    private static final int GYEONGGI = regionIdOf("경기");
+    private static final int BUSAN = regionIdOf("부산");
+    private static final int GYEONGNAM = regionIdOf("경남");
+
+    @Test
+    void resolvesAddressesToTheirRegion() {
+        assertThat(regionIdOf("서울특별시 강남구 개포동")).isEqualTo(SEOUL);
+        assertThat(regionIdOf("경상남도 창원시 성산구")).isEqualTo(GYEONGNAM);
+        assertThat(regionIdOf("경기 광주시 오포읍")).isEqualTo(GYEONGGI);
+        assertThat(regionIdOf("어딘가")).isEqualTo(RegionDictionary.UNKNOWN);
+    }
+
+    @Test
+    void blankPreferencesMeanNoPreference() {
+        assertThat(maskOf(null)).isEqualTo(NO_PREFERENCE);
+        assertThat(maskOf(" ")).isEqualTo(NO_PREFERENCE);
+        assertThat(maskOf(" , ")).isEqualTo(NO_PREFERENCE);
+        assertThat(matches(NO_PREFERENCE, BUSAN)).isTrue();
+    }
+
+    @Test
+    void resolvesRegionPreferences() {
+        long mask = maskOf("서울, 경기도");
+
+        assertThat(mask).isEqualTo(bitOf(SEOUL) | bitOf(GYEONGGI));
+        assertThat(matches(mask, SEOUL)).isTrue();
+        assertThat(matches(mask, BUSAN)).isFalse();
+    }
+
+    @Test
+    void resolvesSubRegionPreferencesToTheirRegion() {
+        assertThat(maskOf("강남구")).isEqualTo(bitOf(SEOUL));
+        assertThat(maskOf("분당")).isEqualTo(bitOf(GYEONGGI));
+        assertThat(maskOf("성남시 분당구")).isEqualTo(bitOf(GYEONGGI));
+        assertThat(maskOf("해운대구,창원시")).isEqualTo(bitOf(BUSAN) | bitOf(GYEONGNAM));
+    }
+
+    @Test
+    void subRegionOnlyProfileIsNotTreatedAsNoPreference() {
+        long mask = maskOf("강남구, 분당");
+
+        assertThat(mask).isNotEqualTo(NO_PREFERENCE);
+        assertThat(matches(mask, regionIdOf("서울 강남구"))).isTrue();
+        assertThat(matches(mask, BUSAN)).isFalse();
+    }
+
+    @Test
+    void unresolvedPreferencesKeepAPreferenceThatMatchesNoRegion() {
+        // 중구 and 고성군 exist in several regions; the last entry names none
+        for (String preferences : new String[]{"중구", "고성군", "역세권"}) {
+            long mask = maskOf(preferences);
+
+            assertThat(mask).as(preferences).isEqualTo(UNRESOLVED_PREFERENCE);
+            for (String region : RegionDictionary.names()) {
+                assertThat(matches(mask, regionIdOf(region))).as(preferences + " vs " + region).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void unresolvedEntriesDoNotWidenResolvedOnes() {
+        long mask = maskOf("서울, 역세권");
+
+        assertThat(mask).isEqualTo(bitOf(SEOUL) | UNRESOLVED_PREFERENCE);
+        assertThat(matches(mask, SEOUL)).isTrue();
+        assertThat(matches(mask, BUSAN)).isFalse();
+    }
+}
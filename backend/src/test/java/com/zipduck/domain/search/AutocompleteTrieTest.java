@@ -0,0 +1,116 @@
+package com.zipduck.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    private static final AutocompleteSuggestion ABC = AutocompleteSuggestion.subscription(1, "abc");
+    private static final AutocompleteSuggestion ABD = AutocompleteSuggestion.subscription(2, "abd");
+    private static final AutocompleteSuggestion AB = AutocompleteSuggestion.subscription(3, "ab");
+
+    private final AutocompleteTrie trie = new AutocompleteTrie();
+
+    @Test
+    void splitsAnEdgeWhereKeysDiverge() {
+        trie.insert("abc", ABC);
+        assertThat(trie.nodeCount()).isEqualTo(2);
+
+        trie.insert("abd", ABD);
+
+        assertThat(trie.nodeCount()).isEqualTo(4); // root, "ab", "c", "d"
+        assertThat(trie.collect("ab", 10)).containsExactly(ABC, ABD);
+        assertThat(trie.collect("abc", 10)).containsExactly(ABC);
+        assertThat(trie.collect("abd", 10)).containsExactly(ABD);
+    }
+
+    @Test
+    void reMergesTheEdgeWhenABranchIsRemoved() {
+        trie.insert("abc", ABC);
+        trie.insert("abd", ABD);
+
+        trie.remove("abd", ABD);
+
+        assertThat(trie.nodeCount()).isEqualTo(2);
+        assertThat(trie.collect("a", 10)).containsExactly(ABC);
+        assertThat(trie.collect("abd", 10)).isEmpty();
+
+        // The merged edge splits again cleanly
+        trie.insert("abd", ABD);
+        assertThat(trie.collect("ab", 10)).containsExactly(ABC, ABD);
+    }
+
+    @Test
+    void reMergesAfterRemovingAKeyThatEndedMidEdge() {
+        trie.insert("abc", ABC);
+        trie.insert("ab", AB);
+        assertThat(trie.nodeCount()).isEqualTo(3);
+
+        trie.remove("ab", AB);
+
+        assertThat(trie.nodeCount()).isEqualTo(2);
+        assertThat(trie.collect("ab", 10)).containsExactly(ABC);
+    }
+
+    @Test
+    void removingEverythingLeavesOnlyTheRoot() {
+        trie.insert("abc", ABC);
+        trie.insert("abd", ABD);
+        trie.insert("ab", AB);
+
+        trie.remove("abc", ABC);
+        trie.remove("ab", AB);
+        trie.remove("abd", ABD);
+
+        assertThat(trie.nodeCount()).isEqualTo(1);
+        assertThat(trie.collect("a", 10)).isEmpty();
+    }
+
+    @Test
+    void ignoresRemovalOfAbsentKeysOrValues() {
+        trie.insert("abc", ABC);
+
+        trie.remove("abd", ABC);
+        trie.remove("ab", ABC);
+        trie.remove("abc", ABD);
+
+        assertThat(trie.nodeCount()).isEqualTo(2);
+        assertThat(trie.collect("abc", 10)).containsExactly(ABC);
+    }
+
+    @Test
+    void collectsFromAPrefixEndingMidEdge() {
+        trie.insert("abcdef", ABC);
+
+        assertThat(trie.collect("abc", 10)).containsExactly(ABC);
+        assertThat(trie.collect("abx", 10)).isEmpty();
+        assertThat(trie.collect("abcdefg", 10)).isEmpty();
+    }
+
+    @Test
+    void collectsInKeyOrderUpToTheLimitWithoutDuplicates() {
+        trie.insert("b", ABD);
+        trie.insert("ab", AB);
+        trie.insert("a", ABC);
+        trie.insert("ac", ABC);
+
+        assertThat(trie.collect("", 10)).containsExactly(ABC, AB, ABD);
+        assertThat(trie.collect("a", 2)).containsExactly(ABC, AB);
+    }
+
+    @Test
+    void findsNamesByInitialsAndByPartiallyComposedSyllables() {
+        AutocompleteSuggestion raemian = AutocompleteSuggestion.subscription(1, "래미안");
+        AutocompleteTrie jamo = new AutocompleteTrie();
+        AutocompleteTrie initials = new AutocompleteTrie();
+        jamo.insert(HangulJamo.decompose("래미안"), raemian);
+        initials.insert(HangulJamo.initials("래미안"), raemian);
+
+        assertThat(initials.collect("ㄹㅁㅇ", 10)).containsExactly(raemian);
+        assertThat(initials.collect("ㄹㅁ", 10)).containsExactly(raemian);
+        assertThat(jamo.collect(HangulJamo.decompose("램"), 10)).containsExactly(raemian);
+        assertThat(jamo.collect(HangulJamo.decompose("래미"), 10)).containsExactly(raemian);
+        assertThat(jamo.collect(HangulJamo.decompose("랩"), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.zipduck.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void decomposesSyllablesIntoBasicJamo() {
+        assertThat(HangulJamo.decompose("래미안")).isEqualTo("ㄹㅐㅁㅣㅇㅏㄴ");
+        assertThat(HangulJamo.decompose("가")).isEqualTo("ㄱㅏ");
+        assertThat(HangulJamo.decompose("힣")).isEqualTo("ㅎㅣㅎ");
+    }
+
+    @Test
+    void expandsCompoundVowelsAndFinalClusters() {
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+    }
+
+    @Test
+    void partiallyComposedSyllableIsAPrefixOfTheFinishedWord() {
+        assertThat(HangulJamo.decompose("래미안")).startsWith(HangulJamo.decompose("램"));
+        assertThat(HangulJamo.decompose("광교")).startsWith(HangulJamo.decompose("고"));
+        assertThat(HangulJamo.decompose("괌")).startsWith(HangulJamo.decompose("과"));
+    }
+
+    @Test
+    void passesThroughNonSyllables() {
+        assertThat(HangulJamo.decompose("e편한세상2")).isEqualTo("eㅍㅕㄴㅎㅏㄴㅅㅔㅅㅏㅇ2");
+        assertThat(HangulJamo.decompose("ㄹㅁ")).isEqualTo("ㄹㅁ");
+        assertThat(HangulJamo.decompose("")).isEmpty();
+    }
+
+    @Test
+    void extractsInitialConsonants() {
+        assertThat(HangulJamo.initials("래미안")).isEqualTo("ㄹㅁㅇ");
+        assertThat(HangulJamo.initials("쌍용")).isEqualTo("ㅆㅇ");
+        assertThat(HangulJamo.initials("e편한세상")).isEqualTo("eㅍㅎㅅㅅ");
+    }
+
+    @Test
+    void recognizesInitialsOnlyQueries() {
+        assertThat(HangulJamo.isInitialsOnly("ㄹㅁㅇ")).isTrue();
+        assertThat(HangulJamo.isInitialsOnly("ㄲㄸ")).isTrue();
+        assertThat(HangulJamo.isInitialsOnly("ㄹㅁ안")).isFalse();
+        assertThat(HangulJamo.isInitialsOnly("ㅏ")).isFalse();
+        assertThat(HangulJamo.isInitialsOnly("ㄳ")).isFalse();
+        assertThat(HangulJamo.isInitialsOnly("abc")).isFalse();
+        assertThat(HangulJamo.isInitialsOnly("")).isFalse();
+    }
+}
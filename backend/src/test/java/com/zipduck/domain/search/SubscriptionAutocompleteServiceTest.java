@@ -0,0 +1,77 @@
+package com.zipduck.domain.search;
+
+import com.zipduck.domain.search.AutocompleteSuggestion.Type;
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent;
+import com.zipduck.domain.subscription.SubscriptionCatalogChangedEvent.ChangeType;
+import com.zipduck.domain.subscription.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SubscriptionAutocompleteServiceTest {
+
+    private final SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+    private final SubscriptionAutocompleteService service = new SubscriptionAutocompleteService(subscriptionRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(subscriptionRepository.findActiveSearchRows()).thenReturn(List.of(
+                row(1L, "래미안 원베일리"),
+                row(2L, "가람마을"),
+                row(3L, "고덕 그라시움"),
+                row(4L, "그린파크")));
+    }
+
+    @Test
+    void findsNamesByInitialsPartialSyllablesAndWordStarts() {
+        assertThat(service.suggest("ㄹㅁㅇ", 10)).extracting(AutocompleteSuggestion::subscriptionId).containsExactly(1L);
+        assertThat(service.suggest("램", 10)).extracting(AutocompleteSuggestion::subscriptionId).containsExactly(1L);
+        assertThat(service.suggest("원베", 10)).extracting(AutocompleteSuggestion::subscriptionId).containsExactly(1L);
+        assertThat(service.suggest("그라", 10)).extracting(AutocompleteSuggestion::subscriptionId).containsExactly(3L);
+    }
+
+    @Test
+    void keepsEveryMatchingRegionAheadOfTheLimit() {
+        // 기타, 경기, 광주, 강원, 경북 and 경남 all start with ㄱ, as do three subscriptions
+        assertThat(service.suggest("ㄱ", 4)).extracting(AutocompleteSuggestion::type)
+                .containsOnly(Type.REGION)
+                .hasSize(4);
+
+        List<AutocompleteSuggestion> all = service.suggest("ㄱ", 20);
+        assertThat(all).extracting(AutocompleteSuggestion::type).containsExactly(
+                Type.REGION, Type.REGION, Type.REGION, Type.REGION, Type.REGION, Type.REGION,
+                Type.SUBSCRIPTION, Type.SUBSCRIPTION, Type.SUBSCRIPTION);
+        assertThat(all).extracting(AutocompleteSuggestion::subscriptionId).contains(2L, 3L, 4L);
+    }
+
+    @Test
+    void appliesCatalogChanges() {
+        service.rebuild();
+
+        when(subscriptionRepository.findActiveSearchRowsByIdIn(anyCollection()))
+                .thenReturn(List.of(row(5L, "힐스테이트 광교")));
+        service.onCatalogChanged(SubscriptionCatalogChangedEvent.of(ChangeType.CREATED, 5L));
+        assertThat(service.suggest("광교", 10)).extracting(AutocompleteSuggestion::subscriptionId).containsExactly(5L);
+
+        // Renamed, then no longer active: the re-read row decides what stays
+        when(subscriptionRepository.findActiveSearchRowsByIdIn(anyCollection()))
+                .thenReturn(List.of(row(5L, "힐스테이트 수원")));
+        service.onCatalogChanged(SubscriptionCatalogChangedEvent.of(ChangeType.UPDATED, 5L));
+        assertThat(service.suggest("광교", 10)).isEmpty();
+        assertThat(service.suggest("ㅎㅅㅌㅇㅌ", 10)).extracting(AutocompleteSuggestion::text)
+                .containsExactly("힐스테이트 수원");
+
+        service.onCatalogChanged(SubscriptionCatalogChangedEvent.of(ChangeType.DEACTIVATED, 5L));
+        assertThat(service.suggest("힐스", 10)).isEmpty();
+    }
+
+    private static SubscriptionSearchRow row(Long id, String name) {
+        return new SubscriptionSearchRow(id, name, null, null);
+    }
+}
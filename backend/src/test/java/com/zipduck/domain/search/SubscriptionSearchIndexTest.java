@@ -0,0 +1,127 @@
+package com.zipduck.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionSearchIndexTest {
+
+    private static final String GANGNAM = "서울 강남구";
+    private static final String SEOCHO = "서울 서초구";
+
+    private final SubscriptionSearchIndex index = SubscriptionSearchIndex.of(List.of(
+            new SubscriptionSearchRow(1L, "래미안 원베일리", "서울특별시 서초구 반포동", SEOCHO),
+            new SubscriptionSearchRow(2L, "래미안", "서울특별시 강남구 개포동", GANGNAM),
+            new SubscriptionSearchRow(3L, "개포 래미안 포레스트", "서울특별시 강남구 개포동", GANGNAM),
+            new SubscriptionSearchRow(4L, "래미 미안", "서울특별시 강남구 일원동", GANGNAM),
+            new SubscriptionSearchRow(5L, "디에이치 퍼스티어 아이파크", "서울특별시 강남구 개포동", GANGNAM),
+            new SubscriptionSearchRow(6L, "e편한세상 (A-1)", "서울특별시 서초구 방배동", SEOCHO)));
+
+    @Test
+    void ranksExactThenPrefixThenSubstringThenPartialNameMatches() {
+        List<SubscriptionSearchHit> hits = index.search("래미안", 10);
+
+        assertThat(hits).extracting(SubscriptionSearchHit::subscriptionId).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(hits).extracting(SubscriptionSearchHit::relevance).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    void rankingBreaksTiesBySubscriptionIdAndHonoursTheLimit() {
+        // 3 also matches part of its name; 2 and 5 match the address only and tie
+        assertThat(index.search("개포동", 10)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(3L, 2L, 5L);
+        assertThat(index.search("개포동", 2)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    void ignoresSpacesPunctuationAndCase() {
+        assertThat(index.search("래미안원베일리", 10)).extracting(SubscriptionSearchHit::subscriptionId).containsExactly(1L);
+        assertThat(index.search(" 래미안, 원-베일리! ", 10)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(1L);
+        assertThat(index.search("E편한 세상 a1", 10)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(6L);
+    }
+
+    @Test
+    void returnsNothingForSingleSyllableOrUnknownQueries() {
+        assertThat(index.search("래", 10)).isEmpty();
+        assertThat(index.search(" 래 !", 10)).isEmpty();
+        assertThat(index.search("힐스테이트", 10)).isEmpty();
+    }
+
+    @Test
+    void searchesNamesWithinOneLocation() {
+        assertThat(index.searchNameInLocation("래미안", GANGNAM)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(2L, 3L);
+        assertThat(index.searchNameInLocation("래미안", "서울  서초구")).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void scansTheLocationForSingleSyllableNames() {
+        assertThat(index.searchNameInLocation("래", GANGNAM)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(2L, 4L, 3L);
+        assertThat(index.searchNameInLocation("e", SEOCHO)).extracting(SubscriptionSearchHit::subscriptionId)
+                .containsExactly(6L);
+    }
+
+    @Test
+    void findsNothingInALocationWithoutRows() {
+        assertThat(index.searchNameInLocation("래미안", "부산 해운대구")).isEmpty();
+        assertThat(index.searchNameInLocation("래", "부산 해운대구")).isEmpty();
+        assertThat(SubscriptionSearchIndex.empty().searchNameInLocation("래미안", GANGNAM)).isEmpty();
+        assertThat(SubscriptionSearchIndex.empty().search("래미안", 10)).isEmpty();
+    }
+
+    @Test
+    void intersectionMatchesABruteForceScan() {
+        // A small alphabet gives posting lists of very different lengths, exercising the skip-ahead search
+        Random random = new Random(42);
+        String alphabet = "가나다라마";
+        List<SubscriptionSearchRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            rows.add(new SubscriptionSearchRow(id, randomText(random, alphabet, 2 + random.nextInt(8)),
+                    randomText(random, alphabet, random.nextInt(4)), "서울"));
+        }
+        SubscriptionSearchIndex large = SubscriptionSearchIndex.of(rows);
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomText(random, alphabet, 2 + random.nextInt(4));
+            Set<Long> expected = new HashSet<>();
+            for (SubscriptionSearchRow row : rows) {
+                if (containsEveryBigram(row, query)) {
+                    expected.add(row.id());
+                }
+            }
+
+            assertThat(large.search(query, Integer.MAX_VALUE)).as(query)
+                    .extracting(SubscriptionSearchHit::subscriptionId)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static boolean containsEveryBigram(SubscriptionSearchRow row, String query) {
+        for (int i = 0; i + 1 < query.length(); i++) {
+            String bigram = query.substring(i, i + 2);
+            if (!row.name().contains(bigram) && !row.address().contains(bigram) && !row.location().contains(bigram)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.zipduck.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks which pool serves each transaction
+ * The primary and the replica are separate H2 databases whose SERVED_BY table names the pool, so
+ * every query reports where it actually ran.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = pool(ReadReplicaRoutingDataSource.PRIMARY, "routing_primary");
+        replica = pool("replica-1", "routing_replica");
+
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setEnabled(true);
+        properties.setLagQuery("");
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-1", replica), properties);
+
+        DataSourceRoutingConfig config = new DataSourceRoutingConfig();
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+        config.perTransactionConnectionRouting().customize(jpaProperties);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(config.dataSource(primary, lagMonitor, properties));
+        factory.setPackagesToScan(getClass().getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(jpaProperties);
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionsUseHealthyReplica() {
+        lagMonitor.checkLag();
+
+        assertThat(servedBy(readOnly)).isEqualTo("replica-1");
+        assertThat(servedBy(readWrite)).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readsStayOnPrimaryUntilReplicaIsHealthy() {
+        assertThat(servedBy(readOnly)).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void pinnedReadOnlyTransactionUsesPrimary() {
+        lagMonitor.checkLag();
+
+        String pool = readOnly.execute(status -> {
+            DataSourceRoutingContext.pinPrimary();
+            return servedBy();
+        });
+
+        assertThat(pool).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+        assertThat(servedBy(readOnly)).isEqualTo("replica-1");
+    }
+
+    @Test
+    void writeAfterReadInSameOpenEntityManagerUsesPrimary() {
+        lagMonitor.checkLag();
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            assertThat(servedBy(readOnly)).isEqualTo("replica-1");
+            assertThat(servedBy(readWrite)).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+            assertThat(servedBy(readOnly)).isEqualTo("replica-1");
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+    }
+
+    private String servedBy(TransactionTemplate transaction) {
+        return transaction.execute(status -> servedBy());
+    }
+
+    private String servedBy() {
+        return (String) entityManager.createNativeQuery("SELECT POOL FROM SERVED_BY").getSingleResult();
+    }
+
+    private static HikariDataSource pool(String name, String database) throws SQLException {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + database);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMinimumIdle(1);
+        dataSource.setMaximumPoolSize(2);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE SERVED_BY (POOL VARCHAR(20))");
+            statement.execute("INSERT INTO SERVED_BY VALUES ('" + name + "')");
+        }
+        return dataSource;
+    }
+}
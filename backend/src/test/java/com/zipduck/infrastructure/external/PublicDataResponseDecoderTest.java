@@ -0,0 +1,182 @@
+package com.zipduck.infrastructure.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zipduck.infrastructure.external.PublicDataClient.PublicSubscriptionDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicDataResponseDecoderTest {
+
+    private static final String FIRST_ITEM = """
+            {"PBLANC_NO": "2024000123", "HOUSE_NM": "래미안 원베일리", "HSSPLY_ADRES": "서울특별시 서초구 반포동",
+             "HOUSE_SECD_NM": "아파트", "RCEPT_BGNDE": "2024-03-04", "RCEPT_ENDDE": "20240306",
+             "TOT_SUPLY_HSHLDCO": 224, "LTTOT_TOP_AMOUNT": "1750000000", "BSNS_MBY_NM": "삼성물산",
+             "PBLANC_DE": "2024-02-23", "SPECLT_RDN_EARTH_AT": {"nested": "ignored"}}""";
+    private static final String SECOND_ITEM = """
+            {"PBLANC_NO": "2024000124", "HOUSE_NM": "디에이치 퍼스티어", "RCEPT_BGNDE": "2024-02-30",
+             "RCEPT_ENDDE": "2024/03/06", "TOT_SUPLY_HSHLDCO": "1,000", "LTTOT_TOP_AMOUNT": null}""";
+
+    private final PublicDataResponseDecoder decoder = new PublicDataResponseDecoder(new ObjectMapper());
+
+    @Test
+    void decodesAnItemArrayAndTotalCount() {
+        AtomicInteger totalCount = new AtomicInteger(-1);
+
+        List<PublicSubscriptionDto> items = decode(response("[" + FIRST_ITEM + "," + SECOND_ITEM + "]", 37),
+                Integer.MAX_VALUE, totalCount);
+
+        assertThat(items).extracting(PublicSubscriptionDto::getExternalId).containsExactly("2024000123", "2024000124");
+        assertThat(totalCount).hasValue(37);
+
+        PublicSubscriptionDto first = items.get(0);
+        assertThat(first.getName()).isEqualTo("래미안 원베일리");
+        assertThat(first.getLocation()).isEqualTo("서울특별시 서초구 반포동");
+        assertThat(first.getHousingType()).isEqualTo("아파트");
+        assertThat(first.getApplicationStartDate()).isEqualTo(LocalDate.of(2024, 3, 4));
+        assertThat(first.getApplicationEndDate()).isEqualTo(LocalDate.of(2024, 3, 6));
+        assertThat(first.getAnnouncementDate()).isEqualTo(LocalDate.of(2024, 2, 23));
+        assertThat(first.getSupplyCount()).isEqualTo(224);
+        assertThat(first.getMaxPrice()).isEqualTo(1_750_000_000L);
+        assertThat(first.getConstructorName()).isEqualTo("삼성물산");
+    }
+
+    @Test
+    void decodesASingleItemObject() {
+        AtomicInteger totalCount = new AtomicInteger(-1);
+
+        List<PublicSubscriptionDto> items = decode(response(FIRST_ITEM, 1), Integer.MAX_VALUE, totalCount);
+
+        assertThat(items).extracting(PublicSubscriptionDto::getExternalId).containsExactly("2024000123");
+        assertThat(totalCount).hasValue(1);
+    }
+
+    @Test
+    void decodesEmptyItems() {
+        AtomicInteger totalCount = new AtomicInteger(-1);
+        String body = """
+                {"response": {"header": {"resultCode": "00"},
+                 "body": {"items": "", "numOfRows": 100, "pageNo": 1, "totalCount": 0}}}""";
+
+        assertThat(decode(body, Integer.MAX_VALUE, totalCount)).isEmpty();
+        assertThat(totalCount).hasValue(0);
+    }
+
+    @Test
+    void leavesTotalCountUnreportedWhenMissing() {
+        AtomicInteger totalCount = new AtomicInteger(-1);
+        String body = "{\"response\": {\"body\": {\"items\": {\"item\": [" + FIRST_ITEM + "]}}}}";
+
+        assertThat(decode(body, Integer.MAX_VALUE, totalCount)).hasSize(1);
+        assertThat(totalCount).hasValue(-1);
+    }
+
+    @Test
+    void ignoresTotalCountOutsideTheBody() {
+        AtomicInteger totalCount = new AtomicInteger(-1);
+        String body = """
+                {"response": {"header": {"totalCount": 99}, "body": {"items": {"item": []}}}}""";
+
+        assertThat(decode(body, Integer.MAX_VALUE, totalCount)).isEmpty();
+        assertThat(totalCount).hasValue(-1);
+    }
+
+    @Test
+    void fallsBackOnMalformedDatesAndNumbers() {
+        List<PublicSubscriptionDto> items = decode(response("[" + SECOND_ITEM + "]", 1),
+                Integer.MAX_VALUE, new AtomicInteger());
+
+        PublicSubscriptionDto item = items.get(0);
+        assertThat(item.getApplicationStartDate()).isNull();
+        assertThat(item.getApplicationEndDate()).isNull();
+        assertThat(item.getAnnouncementDate()).isNull();
+        assertThat(item.getSupplyCount()).isZero();
+        assertThat(item.getMaxPrice()).isZero();
+    }
+
+    @Test
+    void decodesTheSameItemsWhateverTheBufferBoundaries() {
+        String body = response("[" + FIRST_ITEM + "," + SECOND_ITEM + "]", 2);
+        List<PublicSubscriptionDto> whole = decode(body, Integer.MAX_VALUE, new AtomicInteger());
+
+        // Chunks of 1, 2 and 7 bytes split field names, numbers and multi-byte UTF-8 characters
+        for (int chunkSize : new int[]{1, 2, 7}) {
+            AtomicInteger totalCount = new AtomicInteger(-1);
+            assertThat(decode(body, chunkSize, totalCount)).isEqualTo(whole);
+            assertThat(totalCount).hasValue(2);
+        }
+    }
+
+    @Test
+    void emitsAnItemBeforeTheRestOfTheBodyArrives() {
+        byte[] bytes = response("[" + FIRST_ITEM + "," + SECOND_ITEM + "]", 2).getBytes(StandardCharsets.UTF_8);
+        int secondItemStart = new String(bytes, StandardCharsets.UTF_8).indexOf("\"2024000124\"");
+        DataBuffer head = DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, secondItemStart));
+
+        List<PublicSubscriptionDto> items = decoder.decode(Flux.concat(Flux.just(head), Flux.never()), count -> { })
+                .take(1)
+                .collectList()
+                .block();
+
+        assertThat(items).extracting(PublicSubscriptionDto::getExternalId).containsExactly("2024000123");
+    }
+
+    @Test
+    void parsesDates() {
+        assertThat(PublicDataResponseDecoder.parseDate("2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(PublicDataResponseDecoder.parseDate(" 20240115 ")).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(PublicDataResponseDecoder.parseDate("2023-02-29")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate("2024-13-01")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate("2024-00-10")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate("2024.01.15")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate("2024-1-5")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate("abcd0115")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate("")).isNull();
+        assertThat(PublicDataResponseDecoder.parseDate(null)).isNull();
+    }
+
+    @Test
+    void parsesLongs() {
+        assertThat(PublicDataResponseDecoder.parseLong("42", 0)).isEqualTo(42);
+        assertThat(PublicDataResponseDecoder.parseLong(" -7 ", 0)).isEqualTo(-7);
+        assertThat(PublicDataResponseDecoder.parseLong("999999999999999999", 0)).isEqualTo(999_999_999_999_999_999L);
+        assertThat(PublicDataResponseDecoder.parseLong("9999999999999999999", -1)).isEqualTo(-1);
+        assertThat(PublicDataResponseDecoder.parseLong("1,000", -1)).isEqualTo(-1);
+        assertThat(PublicDataResponseDecoder.parseLong("12.5", -1)).isEqualTo(-1);
+        assertThat(PublicDataResponseDecoder.parseLong("-", -1)).isEqualTo(-1);
+        assertThat(PublicDataResponseDecoder.parseLong("", -1)).isEqualTo(-1);
+        assertThat(PublicDataResponseDecoder.parseLong(null, -1)).isEqualTo(-1);
+    }
+
+    private List<PublicSubscriptionDto> decode(String body, int chunkSize, AtomicInteger totalCount) {
+        return decoder.decode(Flux.fromIterable(split(body, chunkSize)), totalCount::set)
+                .collectList()
+                .block();
+    }
+
+    private static String response(String item, int totalCount) {
+        return "{\"response\": {\"header\": {\"resultCode\": \"00\", \"resultMsg\": \"NORMAL SERVICE.\"}, "
+                + "\"body\": {\"items\": {\"item\": " + item + "}, \"numOfRows\": 100, \"pageNo\": 1, "
+                + "\"totalCount\": " + totalCount + "}}}";
+    }
+
+    private static List<DataBuffer> split(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += chunkSize) {
+            int to = (int) Math.min((long) from + chunkSize, bytes.length);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, from, to)));
+        }
+        return buffers;
+    }
+}
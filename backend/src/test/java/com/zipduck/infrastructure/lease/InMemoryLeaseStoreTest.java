@@ -0,0 +1,11 @@
+package com.zipduck.infrastructure.lease;
+
+class InMemoryLeaseStoreTest extends LeaseStoreContractTest {
+
+    private final InMemoryLeaseStore store = new InMemoryLeaseStore();
+
+    @Override
+    protected LeaseStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,135 @@
+package com.zipduck.infrastructure.lease;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behaviour every {@link LeaseStore} must share
+ */
+abstract class LeaseStoreContractTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final Duration SHORT_TTL = Duration.ofMillis(200);
+
+    protected abstract LeaseStore store();
+
+    protected static String jobName() {
+        return "test-job-" + UUID.randomUUID();
+    }
+
+    @Test
+    void onlyOneOfConcurrentAcquirersGetsTheLease() throws Exception {
+        String name = jobName();
+        int contenders = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(contenders);
+        try {
+            List<Future<Optional<Lease>>> attempts = new ArrayList<>();
+            for (int i = 0; i < contenders; i++) {
+                String owner = "node-" + i;
+                Callable<Optional<Lease>> attempt = () -> {
+                    start.await();
+                    return store().tryAcquire(name, owner, TTL);
+                };
+                attempts.add(executor.submit(attempt));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Optional<Lease>> attempt : attempts) {
+                acquired += attempt.get().isPresent() ? 1 : 0;
+            }
+            assertThat(acquired).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void heldLeaseCanBeRenewedAndBlocksOthers() {
+        String name = jobName();
+        Lease lease = store().tryAcquire(name, "node-a", TTL).orElseThrow();
+
+        assertThat(store().renew(lease, TTL)).isTrue();
+        assertThat(store().tryAcquire(name, "node-b", TTL)).isEmpty();
+    }
+
+    @Test
+    void renewFailsAfterExpiry() throws InterruptedException {
+        String name = jobName();
+        Lease lease = store().tryAcquire(name, "node-a", SHORT_TTL).orElseThrow();
+
+        Thread.sleep(SHORT_TTL.toMillis() * 3);
+
+        assertThat(store().renew(lease, TTL)).isFalse();
+        assertThat(store().tryAcquire(name, "node-b", TTL)).isPresent();
+    }
+
+    @Test
+    void expiredHolderCannotRenewOverNewHolder() throws InterruptedException {
+        String name = jobName();
+        Lease stale = store().tryAcquire(name, "node-a", SHORT_TTL).orElseThrow();
+        Thread.sleep(SHORT_TTL.toMillis() * 3);
+        Lease current = store().tryAcquire(name, "node-b", TTL).orElseThrow();
+
+        assertThat(store().renew(stale, TTL)).isFalse();
+        assertThat(store().renew(current, TTL)).isTrue();
+    }
+
+    @Test
+    void releaseByNonOwnerKeepsTheLease() {
+        String name = jobName();
+        Lease lease = store().tryAcquire(name, "node-a", TTL).orElseThrow();
+
+        store().release(new Lease(name, "node-b", lease.fencingToken()));
+
+        assertThat(store().tryAcquire(name, "node-c", TTL)).isEmpty();
+        assertThat(store().renew(lease, TTL)).isTrue();
+    }
+
+    @Test
+    void releaseByExpiredHolderKeepsTheNewHoldersLease() throws InterruptedException {
+        String name = jobName();
+        Lease stale = store().tryAcquire(name, "node-a", SHORT_TTL).orElseThrow();
+        Thread.sleep(SHORT_TTL.toMillis() * 3);
+        Lease current = store().tryAcquire(name, "node-b", TTL).orElseThrow();
+
+        store().release(stale);
+
+        assertThat(store().tryAcquire(name, "node-c", TTL)).isEmpty();
+        assertThat(store().renew(current, TTL)).isTrue();
+    }
+
+    @Test
+    void releasedLeaseCanBeAcquiredWithAHigherToken() {
+        String name = jobName();
+        long previous = 0;
+        for (int i = 0; i < 5; i++) {
+            Lease lease = store().tryAcquire(name, "node-" + i, TTL).orElseThrow();
+            assertThat(lease.fencingToken()).isGreaterThan(previous);
+            previous = lease.fencingToken();
+            store().release(lease);
+        }
+    }
+
+    @Test
+    void tokensAreAtLeastTheAcquisitionTime() {
+        long before = System.currentTimeMillis();
+
+        Lease lease = store().tryAcquire(jobName(), "node-a", TTL).orElseThrow();
+
+        assertThat(lease.fencingToken()).isGreaterThanOrEqualTo(before);
+    }
+}
@@ -0,0 +1,75 @@
+package com.zipduck.infrastructure.lease;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the lease Lua scripts against a real Redis
+ * Skipped when no Docker daemon is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisLeaseStoreTest extends LeaseStoreContractTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisLeaseStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        store = new RedisLeaseStore(redisTemplate);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Override
+    protected LeaseStore store() {
+        return store;
+    }
+
+    @Test
+    void tokenKeepsIncreasingWhenCounterIsAheadOfTheClock() {
+        String name = jobName();
+        long ahead = System.currentTimeMillis() + Duration.ofDays(1).toMillis();
+        redisTemplate.opsForValue().set("lease:{" + name + "}:fence", String.valueOf(ahead));
+
+        Lease first = store.tryAcquire(name, "node-a", Duration.ofSeconds(30)).orElseThrow();
+        store.release(first);
+        Lease second = store.tryAcquire(name, "node-b", Duration.ofSeconds(30)).orElseThrow();
+
+        assertThat(first.fencingToken()).isEqualTo(ahead + 1);
+        assertThat(second.fencingToken()).isEqualTo(ahead + 2);
+    }
+
+    @Test
+    void leaseKeyExpiresWithTheTtl() {
+        String name = jobName();
+        Lease lease = store.tryAcquire(name, "node-a", Duration.ofSeconds(30)).orElseThrow();
+
+        Long ttlMs = redisTemplate.getExpire("lease:{" + name + "}", TimeUnit.MILLISECONDS);
+
+        assertThat(ttlMs).isBetween(1L, 30_000L);
+        assertThat(redisTemplate.opsForValue().get("lease:{" + name + "}")).isEqualTo("node-a:" + lease.fencingToken());
+    }
+}